@@ -0,0 +1,207 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates name tables for enums annotated with {@code EnumParser.Precomputed}, so that
+ * {@code EnumParser} does not need to reflect over their constants.
+ *
+ * <p>For an enum {@code com.example.Outer.Kind}, the table is generated as
+ * {@code com.example.Outer_Kind_NameTable}. Every generated table is registered as a service in
+ * {@code META-INF/services}, where {@code EnumParser} finds it.</p>
+ */
+public class EnumNameTableProcessor extends AbstractProcessor {
+  private static final String PRECOMPUTED = "net.kyori.xml.node.parser.EnumParser.Precomputed";
+  private static final String NAMES = "net.kyori.xml.node.parser.EnumParser.Names";
+  private static final String NAME_TABLE = "net.kyori.xml.node.parser.EnumParser.NameTable";
+  private static final String SUFFIX = "_NameTable";
+  private static final String SERVICE = "META-INF/services/net.kyori.xml.node.parser.EnumParser$NameTable";
+  private final Set<String> tables = new LinkedHashSet<>();
+  private final List<Element> originating = new ArrayList<>();
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(PRECOMPUTED);
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment environment) {
+    for(final TypeElement annotation : annotations) {
+      for(final Element element : environment.getElementsAnnotatedWith(annotation)) {
+        if(element.getKind() != ElementKind.ENUM) {
+          this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Only enums can have a precomputed name table", element);
+          continue;
+        }
+        try {
+          this.generate((TypeElement) element);
+        } catch(final IOException e) {
+          this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate name table: " + e.getMessage(), element);
+        }
+      }
+    }
+    if(environment.processingOver() && !this.tables.isEmpty()) {
+      try {
+        this.register();
+      } catch(final IOException e) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not register name tables: " + e.getMessage());
+      }
+    }
+    return true;
+  }
+
+  // the service file is written once, after the last round, and keeps the tables of earlier compilations
+  private void register() throws IOException {
+    final Set<String> tables = new LinkedHashSet<>();
+    try {
+      final FileObject existing = this.processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE);
+      try(final BufferedReader reader = new BufferedReader(existing.openReader(true))) {
+        for(String line = reader.readLine(); line != null; line = reader.readLine()) {
+          if(!line.trim().isEmpty()) {
+            tables.add(line.trim());
+          }
+        }
+      }
+    } catch(final IOException e) {
+      // no tables have been registered yet
+    }
+    tables.addAll(this.tables);
+    final FileObject service = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE, this.originating.toArray(new Element[0]));
+    try(final Writer writer = service.openWriter()) {
+      for(final String table : tables) {
+        writer.write(table + '\n');
+      }
+    }
+  }
+
+  private void generate(final TypeElement type) throws IOException {
+    final List<String> canonical = new ArrayList<>();
+    final Map<String, String> aliases = new LinkedHashMap<>();
+    for(final Element element : type.getEnclosedElements()) {
+      if(element.getKind() != ElementKind.ENUM_CONSTANT) {
+        continue;
+      }
+      final String constant = element.getSimpleName().toString();
+      final /* @Nullable */ List<String> names = this.names(element);
+      if(names != null) {
+        for(final String name : names) {
+          aliases.put(name, constant);
+        }
+      } else {
+        canonical.add(constant);
+      }
+    }
+
+    final PackageElement pkg = this.processingEnv.getElementUtils().getPackageOf(type);
+    final String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+    final String className = flatName(type) + SUFFIX;
+    final String typeName = type.getQualifiedName().toString();
+    final String tableName = packageName.isEmpty() ? className : packageName + '.' + className;
+    this.tables.add(tableName);
+    this.originating.add(type);
+    try(final Writer writer = this.processingEnv.getFiler().createSourceFile(tableName, type).openWriter()) {
+      if(!packageName.isEmpty()) {
+        writer.write("package " + packageName + ";\n\n");
+      }
+      writer.write("/**\n * The name table of {@link " + typeName + "}.\n */\n");
+      writer.write("public final class " + className + " implements " + NAME_TABLE + "<" + typeName + "> {\n");
+      writer.write("  public static final " + className + " INSTANCE = new " + className + "();\n\n");
+      // public, so that the table can be loaded as a service
+      writer.write("  public " + className + "() {\n  }\n\n");
+      writer.write("  @Override\n  public java.lang.Class<" + typeName + "> type() {\n    return " + typeName + ".class;\n  }\n\n");
+      writer.write("  @Override\n  public java.util.List<" + typeName + "> canonical() {\n");
+      writer.write("    return java.util.Arrays.asList(");
+      for(int i = 0; i < canonical.size(); i++) {
+        writer.write((i == 0 ? "\n      " : ",\n      ") + typeName + '.' + canonical.get(i));
+      }
+      writer.write("\n    );\n  }\n\n");
+      writer.write("  @Override\n  public java.util.Map<java.lang.String, " + typeName + "> aliases() {\n");
+      writer.write("    final java.util.Map<java.lang.String, " + typeName + "> aliases = new java.util.HashMap<>(" + Math.max(1, aliases.size() * 2) + ");\n");
+      for(final Map.Entry<String, String> alias : aliases.entrySet()) {
+        writer.write("    aliases.put(" + this.processingEnv.getElementUtils().getConstantExpression(alias.getKey()) + ", " + typeName + '.' + alias.getValue() + ");\n");
+      }
+      writer.write("    return aliases;\n  }\n}\n");
+    }
+  }
+
+  private /* @Nullable */ List<String> names(final Element constant) {
+    for(final AnnotationMirror mirror : constant.getAnnotationMirrors()) {
+      if(((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(NAMES)) {
+        final List<String> names = new ArrayList<>();
+        for(final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+          if(entry.getKey().getSimpleName().contentEquals("value")) {
+            final Object value = entry.getValue().getValue();
+            if(value instanceof List<?>) {
+              for(final Object name : (List<?>) value) {
+                names.add((String) ((AnnotationValue) name).getValue());
+              }
+            } else {
+              // a single name, without braces
+              names.add((String) value);
+            }
+          }
+        }
+        return names;
+      }
+    }
+    return null;
+  }
+
+  // Outer.Kind -> Outer_Kind
+  private static String flatName(final TypeElement type) {
+    final StringBuilder name = new StringBuilder(type.getSimpleName());
+    for(Element enclosing = type.getEnclosingElement(); enclosing instanceof TypeElement; enclosing = enclosing.getEnclosingElement()) {
+      name.insert(0, '_').insert(0, enclosing.getSimpleName());
+    }
+    return name.toString();
+  }
+}
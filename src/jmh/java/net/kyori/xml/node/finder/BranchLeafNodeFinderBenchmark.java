@@ -0,0 +1,110 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.finder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.function.NodeFunction;
+import net.kyori.xml.node.function.NodePredicate;
+import net.kyori.xml.node.function.NodePredicates;
+import org.jdom2.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class BranchLeafNodeFinderBenchmark {
+  private static final NodePredicate BRANCH = NodePredicates.named("regions", "union");
+  private static final NodePredicate LEAF = NodePredicates.named("cuboid");
+  private static final NodeFunction MAPPER = NodeFunction.identity();
+
+  /**
+   * The depth of nested branches.
+   */
+  @Param({"2", "8", "32"})
+  public int depth;
+  private Node root;
+  private BranchLeafNodeFinder finder;
+  private NodeDepthFinder recursive;
+
+  @Setup
+  public void setup() {
+    final Element regions = new Element("regions");
+    for(int i = 0; i < 64; i++) {
+      Element branch = new Element("cuboid").setAttribute("min", "0,0,0").setAttribute("max", "1,1,1");
+      for(int j = 1; j < this.depth; j++) {
+        branch = new Element("union").setAttribute("id", Integer.toString(j)).addContent(branch).addContent(new Element("cuboid"));
+      }
+      regions.addContent(branch);
+    }
+    this.root = Node.of(regions);
+    this.finder = new BranchLeafNodeFinder(BRANCH, LEAF, MAPPER);
+    this.recursive = new Recursive();
+  }
+
+  @Benchmark
+  public void recursive(final Blackhole bh) {
+    this.recursive.nodes(this.root).forEach(bh::consume);
+  }
+
+  @Benchmark
+  public void stream(final Blackhole bh) {
+    this.finder.nodes(this.root).forEach(bh::consume);
+  }
+
+  @Benchmark
+  public void forEach(final Blackhole bh) {
+    this.finder.forEach(this.root, bh::consume);
+  }
+
+  /**
+   * The previous, recursive implementation of {@link BranchLeafNodeFinder}.
+   */
+  private static final class Recursive implements NodeDepthFinder {
+    @Override
+    public Stream<Node> nodes(final Node node, final int depth) {
+      if(BRANCH.test(node, depth)) {
+        return MAPPER.apply(node, depth).nodes().flatMap(parent -> this.nodes(parent, depth + 1));
+      } else if(LEAF.test(node, depth)) {
+        return Stream.of(MAPPER.apply(node, depth));
+      }
+      return Stream.empty();
+    }
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser.number;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import org.jdom2.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class FloatingPointParserBenchmark {
+  /**
+   * The shape of the parsed values: short attribute-style decimals, or shortest representations of random doubles.
+   */
+  @Param({"short", "random"})
+  public String values;
+  private final Node node = Node.of(new Element("value"));
+  private String[] strings;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(42);
+    this.strings = new String[1024];
+    for(int i = 0; i < this.strings.length; i++) {
+      if(this.values.equals("short")) {
+        this.strings[i] = (random.nextInt(2000) - 1000) + "." + random.nextInt(100);
+      } else {
+        this.strings[i] = Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+      }
+    }
+  }
+
+  @Benchmark
+  public void jdkDouble(final Blackhole bh) {
+    for(final String string : this.strings) {
+      bh.consume(Double.parseDouble(string));
+    }
+  }
+
+  @Benchmark
+  public void parserDouble(final Blackhole bh) throws XMLException {
+    final DoubleParser parser = DoubleParser.get();
+    for(final String string : this.strings) {
+      bh.consume(parser.finite(this.node, string, 0, string.length()));
+    }
+  }
+
+  @Benchmark
+  public void jdkFloat(final Blackhole bh) {
+    for(final String string : this.strings) {
+      bh.consume(Float.parseFloat(string));
+    }
+  }
+
+  @Benchmark
+  public void parserFloat(final Blackhole bh) throws XMLException {
+    final FloatParser parser = FloatParser.get();
+    for(final String string : this.strings) {
+      bh.consume(parser.finite(this.node, string, 0, string.length()));
+    }
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser.number;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import org.jdom2.Element;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class NumberParserBenchmark {
+  /**
+   * The parsed type.
+   */
+  @Param({"byte", "short", "int", "long", "float", "double"})
+  public String type;
+  private final Node node = Node.of(new Element("value"));
+  private NumberParser<?> parser;
+  // kept as characters so that each invocation parses fresh strings, whose hash codes are not yet cached
+  private char[][] strings;
+
+  @Setup
+  public void setup() {
+    switch(this.type) {
+      case "byte": this.parser = ByteParser.get(); break;
+      case "short": this.parser = ShortParser.get(); break;
+      case "int": this.parser = IntParser.get(); break;
+      case "long": this.parser = LongParser.get(); break;
+      case "float": this.parser = FloatParser.get(); break;
+      case "double": this.parser = DoubleParser.get(); break;
+      default: throw new IllegalArgumentException(this.type);
+    }
+    // attribute-style values: mostly small and positive, some negative, and very rarely infinite
+    final boolean floatingPoint = this.type.equals("float") || this.type.equals("double");
+    final Random random = new Random(42);
+    this.strings = new char[1024][];
+    for(int i = 0; i < this.strings.length; i++) {
+      final int value = random.nextInt(10) == 0 ? -random.nextInt(100) : random.nextInt(100);
+      if(i == 512) {
+        this.strings[i] = NumberParser.POSITIVE_INFINITY_SYMBOL_B.toCharArray();
+      } else if(floatingPoint) {
+        this.strings[i] = (value + "." + random.nextInt(10)).toCharArray();
+      } else {
+        this.strings[i] = Integer.toString(value).toCharArray();
+      }
+    }
+  }
+
+  @Benchmark
+  public void stringSwitch(final Blackhole bh) throws XMLException {
+    for(final char[] chars : this.strings) {
+      bh.consume(stringSwitch(this.parser, this.node, new String(chars)));
+    }
+  }
+
+  @Benchmark
+  public void firstCharacter(final Blackhole bh) throws XMLException {
+    for(final char[] chars : this.strings) {
+      bh.consume(this.parser.throwingParse(this.node, new String(chars)));
+    }
+  }
+
+  /**
+   * The previous implementation of {@link NumberParser#throwingParse(Node, String)}.
+   */
+  private static Number stringSwitch(final NumberParser<?> parser, final Node node, final String string) throws XMLException {
+    switch(string) {
+      case NumberParser.NEGATIVE_INFINITY_SYMBOL_A:
+      case NumberParser.NEGATIVE_INFINITY_SYMBOL_B:
+        return parser.negativeInfinity(node, string);
+      default:
+        return parser.finite(node, string);
+      case NumberParser.POSITIVE_INFINITY_SYMBOL_A:
+      case NumberParser.POSITIVE_INFINITY_SYMBOL_B:
+        return parser.positiveInfinity(node, string);
+    }
+  }
+}
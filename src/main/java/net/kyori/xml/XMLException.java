@@ -23,7 +23,11 @@
  */
 package net.kyori.xml;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.function.Supplier;
 import net.kyori.xml.node.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
@@ -31,6 +35,9 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  */
 public class XMLException extends Exception {
   private final @Nullable Node node;
+  // only present when the message is computed lazily - it is computed before serialization
+  private final transient @Nullable Supplier<String> supplier;
+  private @Nullable String message;
 
   public XMLException(final String message) {
     this(null, message);
@@ -39,6 +46,7 @@ public class XMLException extends Exception {
   public XMLException(final @Nullable Node node, final String message) {
     super(message);
     this.node = node;
+    this.supplier = null;
   }
 
   public XMLException(final String message, final @Nullable Throwable cause) {
@@ -48,9 +56,47 @@ public class XMLException extends Exception {
   public XMLException(final @Nullable Node node, final String message, final @Nullable Throwable cause) {
     super(message, cause);
     this.node = node;
+    this.supplier = null;
+  }
+
+  /**
+   * Creates an exception whose message is only computed when first requested.
+   *
+   * <p>When {@code writableStackTrace} is {@code false}, no stack trace is captured, which makes the
+   * exception much cheaper to create. This suits exceptions that are expected to be caught and handled,
+   * rather than reported.</p>
+   *
+   * @param node the node
+   * @param message the message supplier
+   * @param cause the cause
+   * @param writableStackTrace if the stack trace should be captured
+   */
+  protected XMLException(final @Nullable Node node, final @NonNull Supplier<String> message, final @Nullable Throwable cause, final boolean writableStackTrace) {
+    super(null, cause, true, writableStackTrace);
+    this.node = node;
+    this.supplier = message;
   }
 
   public @Nullable Node node() {
     return this.node;
   }
+
+  @Override
+  public String getMessage() {
+    if(this.supplier == null) {
+      // a deserialized exception keeps the computed message
+      return this.message != null ? this.message : super.getMessage();
+    }
+    synchronized(this) {
+      if(this.message == null) {
+        this.message = this.supplier.get();
+      }
+      return this.message;
+    }
+  }
+
+  private void writeObject(final @NonNull ObjectOutputStream stream) throws IOException {
+    this.getMessage();
+    stream.defaultWriteObject();
+  }
 }
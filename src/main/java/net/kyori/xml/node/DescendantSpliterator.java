@@ -0,0 +1,171 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import net.kyori.xml.node.function.NodePredicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A spliterator over the descendants of a node, in pre-order.
+ *
+ * <p>Pending work is kept as a stack of sibling ranges, which are split in half to hand
+ * whole subtrees to another spliterator.</p>
+ */
+/* package */ final class DescendantSpliterator implements Spliterator<Node> {
+  private static final int CHARACTERISTICS = ORDERED | NONNULL | IMMUTABLE;
+  private final Deque<Range> stack;
+  private final int maxDepth;
+  private final NodePredicate predicate;
+  private long estimate;
+
+  /* package */ DescendantSpliterator(final @NonNull Node parent, final int maxDepth, final @NonNull NodePredicate predicate) {
+    this(new ArrayDeque<>(), maxDepth, predicate, Long.MAX_VALUE);
+    if(maxDepth > 0) {
+      this.push(parent, 1);
+    }
+  }
+
+  private DescendantSpliterator(final @NonNull Deque<Range> stack, final int maxDepth, final @NonNull NodePredicate predicate, final long estimate) {
+    this.stack = stack;
+    this.maxDepth = maxDepth;
+    this.predicate = predicate;
+    this.estimate = estimate;
+  }
+
+  @Override
+  public boolean tryAdvance(final @NonNull Consumer<? super Node> action) {
+    /* @Nullable */ Range range;
+    while((range = this.stack.peek()) != null) {
+      if(range.index >= range.end) {
+        this.stack.pop();
+        continue;
+      }
+      final Node node = range.nodes.get(range.index++);
+      final int depth = range.depth;
+      if(range.expand && depth < this.maxDepth) {
+        this.push(node, depth + 1);
+      }
+      if(this.predicate.test(node, depth)) {
+        action.accept(node);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public @Nullable Spliterator<Node> trySplit() {
+    this.stack.removeIf(range -> range.index >= range.end);
+    if(this.stack.isEmpty()) {
+      return null;
+    }
+
+    // Prefer the shallowest range that can be halved, it covers the largest subtrees
+    /* @Nullable */ Range split = null;
+    for(final Iterator<Range> it = this.stack.descendingIterator(); it.hasNext(); ) {
+      final Range range = it.next();
+      if(range.end - range.index >= 2) {
+        split = range;
+        break;
+      }
+    }
+
+    final Deque<Range> prefix = new ArrayDeque<>();
+    if(split != null) {
+      // Everything above the split range is encountered before it
+      while(this.stack.peek() != split) {
+        prefix.addLast(this.stack.pop());
+      }
+      final int middle = (split.index + split.end) >>> 1;
+      prefix.addLast(new Range(split.nodes, split.index, middle, split.depth, split.expand));
+      split.index = middle;
+    } else {
+      // Every range holds a single node: hand off that node, and keep its children
+      final Range top = this.stack.peek();
+      if(!top.expand || top.depth >= this.maxDepth) {
+        return null;
+      }
+      final Node node = top.nodes.get(top.index);
+      final List<Node> children = children(node);
+      if(children.isEmpty()) {
+        return null;
+      }
+      top.index++;
+      prefix.addLast(new Range(top.nodes, top.index - 1, top.index, top.depth, false));
+      this.stack.push(new Range(children, 0, children.size(), top.depth + 1, true));
+    }
+
+    this.estimate >>>= 1;
+    return new DescendantSpliterator(prefix, this.maxDepth, this.predicate, this.estimate);
+  }
+
+  @Override
+  public long estimateSize() {
+    return this.estimate;
+  }
+
+  @Override
+  public int characteristics() {
+    return CHARACTERISTICS;
+  }
+
+  private void push(final @NonNull Node node, final int depth) {
+    final List<Node> children = children(node);
+    if(!children.isEmpty()) {
+      this.stack.push(new Range(children, 0, children.size(), depth, true));
+    }
+  }
+
+  private static @NonNull List<Node> children(final @NonNull Node node) {
+    return node.elements().collect(Collectors.toList());
+  }
+
+  /**
+   * A range of sibling nodes at the same depth.
+   */
+  private static final class Range {
+    final List<Node> nodes;
+    int index;
+    final int end;
+    final int depth;
+    // if the children of nodes in this range should be visited
+    final boolean expand;
+
+    Range(final @NonNull List<Node> nodes, final int index, final int end, final int depth, final boolean expand) {
+      this.nodes = nodes;
+      this.index = index;
+      this.end = end;
+      this.depth = depth;
+      this.expand = expand;
+    }
+  }
+}
@@ -23,12 +23,7 @@
  */
 package net.kyori.xml.node;
 
-import java.util.Collection;
-import java.util.Objects;
-import java.util.stream.Stream;
-import net.kyori.xml.element.Elements;
 import org.checkerframework.checker.nullness.qual.NonNull;
-import org.checkerframework.checker.nullness.qual.Nullable;
 
 public interface ElementNode extends Node {
   /**
@@ -38,87 +33,45 @@ public interface ElementNode extends Node {
    * @return a node
    */
   static @NonNull Node of(final org.jdom2.@NonNull Element element) {
-    return new JDOMElementNode(element);
+    return new JDOMElementNode(element, false);
+  }
+
+  /**
+   * Creates a node from an element which will not be modified while the node is in use.
+   *
+   * <p>The value, children, {@link #inherited() inherited copy} and {@link #inheritedView() inherited view}
+   * of the node, and of all nodes reached through it, are computed once and then reused. If the element
+   * is modified, a new frozen node must be created to see the changes.</p>
+   *
+   * @param element the element
+   * @return a node
+   */
+  static @NonNull Node frozen(final org.jdom2.@NonNull Element element) {
+    return new JDOMElementNode(element, true);
   }
 
   /**
    * Creates a copy of this node with parent attributes inherited.
    *
+   * <p>The copy is created once for a {@link #frozen(org.jdom2.Element) frozen} node.</p>
+   *
    * @return an inherited copy
    */
   @NonNull ElementNode inherited();
-}
-
-/* package */ abstract class AbstractElementNode<E> implements ElementNode {
-  /* package */ final E element;
-
-  /* package */ AbstractElementNode(final @NonNull E element) {
-    this.element = element;
-  }
-
-  @Override
-  public boolean equals(final @Nullable Object other) {
-    if(this == other) return true;
-    if(other == null || this.getClass() != other.getClass()) return false;
-    final AbstractElementNode<?> that = (AbstractElementNode<?>) other;
-    return Objects.equals(this.element, that.element);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hashCode(this.element);
-  }
-
-  @Override
-  public @NonNull String toString() {
-    return "ElementNode{" + this.name() + '}';
-  }
-}
 
-/* package */ final class JDOMElementNode extends AbstractElementNode<org.jdom2.Element> implements ElementNode {
-  /* package */ JDOMElementNode(final org.jdom2.@NonNull Element element) {
-    super(element);
-  }
-
-  @Override
-  public @NonNull String name() {
-    return this.element.getName();
-  }
-
-  @Override
-  public @NonNull String value() {
-    return this.element.getValue();
-  }
-
-  @Override
-  public @NonNull Stream<Node> elements() {
-    return this.element.getChildren().stream().map(Node::of);
-  }
-
-  @Override
-  public @NonNull Stream<Node> elements(final @NonNull Collection<String> names) {
-    return this.element.getChildren().stream()
-      .filter(attribute -> names.contains(attribute.getName()))
-      .map(Node::of);
-  }
-
-  @Override
-  public @NonNull Stream<Node> attributes() {
-    return this.element.getAttributes().stream().map(Node::of);
-  }
-
-  @Override
-  public @NonNull Stream<Node> attributes(final @NonNull Collection<String> names) {
-    return this.element.getAttributes().stream()
-      .filter(attribute -> names.contains(attribute.getName()))
-      .map(Node::of);
-  }
-
-  @Override
-  public @NonNull ElementNode inherited() {
-    if(Elements.Inherited.is(this.element)) {
-      return this;
-    }
-    return new JDOMElementNode(Elements.Inherited.of(this.element));
+  /**
+   * Creates a view of this node with attributes inherited from its ancestors.
+   *
+   * <p>Unlike {@link #inherited()}, nothing is copied: attributes are resolved from this node first,
+   * and then from each ancestor in turn, and children are shared with this node. The view of a
+   * {@link #frozen(org.jdom2.Element) frozen} node is created once, and its attributes are resolved on
+   * first use.</p>
+   *
+   * <p>Implementations which cannot provide a view return an {@link #inherited() inherited copy}.</p>
+   *
+   * @return an inherited view
+   */
+  default @NonNull ElementNode inheritedView() {
+    return this.inherited();
   }
 }
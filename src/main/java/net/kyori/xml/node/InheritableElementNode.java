@@ -0,0 +1,45 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * An element node which knows its ancestors, and so can inherit attributes as allowed by an {@link InheritancePolicy}.
+ *
+ * <p>The nodes created by {@link ElementNode#of(org.jdom2.Element)}, {@link ElementNode#frozen(org.jdom2.Element)}
+ * and {@link Inheritance} are inheritable element nodes.</p>
+ */
+public interface InheritableElementNode extends ElementNode {
+  /**
+   * Creates a view of this node with attributes inherited from its ancestors, as allowed by {@code policy}.
+   *
+   * <p>This node's own attributes are always included.</p>
+   *
+   * @param policy the inheritance policy
+   * @return an inherited view
+   * @see #inheritedView()
+   */
+  @NonNull InheritableElementNode inherited(final @NonNull InheritancePolicy policy);
+}
@@ -0,0 +1,237 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import net.kyori.xml.node.function.NodeFunction;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jdom2.Attribute;
+import org.jdom2.Element;
+
+/**
+ * The attributes of every element in a tree, with attributes inherited from ancestors.
+ *
+ * <p>Attributes are resolved for the whole tree in a single top-down pass. An element resolves its
+ * own attributes first, and then those of its ancestors, nearest first. Elements without attributes
+ * of their own share the resolved attributes of their parent.</p>
+ *
+ * <p>The tree must not be modified while the inheritance is in use. Resolve it again to see changes.</p>
+ */
+public final class Inheritance {
+  private static final Attribute[] EMPTY = new Attribute[0];
+  private final Map<Element, Attribute[]> attributes;
+
+  private Inheritance(final @NonNull Map<Element, Attribute[]> attributes) {
+    this.attributes = attributes;
+  }
+
+  /**
+   * Resolves the attributes of {@code root} and all of its descendants.
+   *
+   * @param root the root element
+   * @return the inheritance
+   */
+  public static @NonNull Inheritance resolve(final @NonNull Element root) {
+    final Map<Element, Attribute[]> attributes = new IdentityHashMap<>();
+    final Deque<Element> stack = new ArrayDeque<>();
+    attributes.put(root, ancestors(root));
+    stack.push(root);
+    /* @Nullable */ Element element;
+    while((element = stack.poll()) != null) {
+      final Attribute[] inherited = attributes.get(element);
+      for(final Element child : element.getChildren()) {
+        attributes.put(child, merge(child.getAttributes(), inherited));
+        stack.push(child);
+      }
+    }
+    return new Inheritance(attributes);
+  }
+
+  // the root may itself have ancestors to inherit from
+  private static Attribute @NonNull [] ancestors(final @NonNull Element root) {
+    final List<Element> chain = new ArrayList<>();
+    for(/* @Nullable */ Element element = root; element != null; element = element.getParentElement()) {
+      chain.add(element);
+    }
+    Attribute[] attributes = EMPTY;
+    for(int i = chain.size() - 1; i >= 0; i--) {
+      attributes = merge(chain.get(i).getAttributes(), attributes);
+    }
+    return attributes;
+  }
+
+  private static Attribute @NonNull [] merge(final @NonNull List<Attribute> own, final Attribute @NonNull [] inherited) {
+    if(own.isEmpty()) {
+      return inherited;
+    }
+    final List<Attribute> merged = new ArrayList<>(own.size() + inherited.length);
+    merged.addAll(own);
+    for(final Attribute attribute : inherited) {
+      if(indexOf(own, attribute.getName()) == -1) {
+        merged.add(attribute);
+      }
+    }
+    return merged.toArray(EMPTY);
+  }
+
+  private static int indexOf(final @NonNull List<Attribute> attributes, final @NonNull String name) {
+    for(int i = 0, size = attributes.size(); i < size; i++) {
+      if(attributes.get(i).getName().equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets a node for {@code element}, with inherited attributes.
+   *
+   * <p>Children of the node also have inherited attributes.</p>
+   *
+   * @param element the element
+   * @return the node
+   * @throws IllegalArgumentException if {@code element} was not resolved by this inheritance
+   */
+  public @NonNull ElementNode node(final @NonNull Element element) {
+    final /* @Nullable */ Attribute[] attributes = this.attributes.get(element);
+    if(attributes == null) {
+      throw new IllegalArgumentException("Element " + element.getName() + " was not resolved");
+    }
+    return new ResolvedElementNode(this, element, attributes);
+  }
+
+  /**
+   * Gets a node with inherited attributes for {@code node}.
+   *
+   * @param node the node
+   * @return the node with inherited attributes, or {@code node} if it is not an element resolved by this inheritance
+   */
+  public @NonNull Node inherited(final @NonNull Node node) {
+    if(node instanceof ResolvedElementNode || !(node instanceof AbstractElementNode)) {
+      return node;
+    }
+    final Object element = ((AbstractElementNode<?>) node).element;
+    final /* @Nullable */ Attribute[] attributes = this.attributes.get(element);
+    if(attributes == null) {
+      return node;
+    }
+    return new ResolvedElementNode(this, (Element) element, attributes);
+  }
+
+  /**
+   * Gets a function which looks up inherited attributes if the node is an element.
+   *
+   * @param minimumDepth the minimum depth to apply the function
+   * @return a unary operator
+   * @see #inherited(Node)
+   */
+  public @NonNull NodeFunction function(final int minimumDepth) {
+    return (node, depth) -> depth >= minimumDepth ? this.inherited(node) : node;
+  }
+
+  /* package */ static final class ResolvedElementNode extends AbstractElementNode<Element> implements InheritableElementNode {
+    private final Inheritance inheritance;
+    private final Attribute[] attributes;
+
+    ResolvedElementNode(final @NonNull Inheritance inheritance, final @NonNull Element element, final Attribute @NonNull [] attributes) {
+      super(element);
+      this.inheritance = inheritance;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public @NonNull String name() {
+      return this.element.getName();
+    }
+
+    @Override
+    public @NonNull String value() {
+      return this.element.getValue();
+    }
+
+    @Override
+    public @NonNull String text() {
+      return this.element.getText();
+    }
+
+    @Override
+    public @NonNull Stream<Node> elements() {
+      return this.element.getChildren().stream().map(this.inheritance::node);
+    }
+
+    @Override
+    public @NonNull Stream<Node> elements(final @NonNull Collection<String> names) {
+      return this.element.getChildren().stream()
+        .filter(element -> names.contains(element.getName()))
+        .map(this.inheritance::node);
+    }
+
+    @Override
+    public @NonNull Stream<Node> attributes() {
+      return Arrays.stream(this.attributes).map(Node::of);
+    }
+
+    @Override
+    public @NonNull Stream<Node> attributes(final @NonNull Collection<String> names) {
+      return Arrays.stream(this.attributes)
+        .filter(attribute -> names.contains(attribute.getName()))
+        .map(Node::of);
+    }
+
+    @Override
+    public @NonNull ElementNode inherited() {
+      return this;
+    }
+
+    @Override
+    public @NonNull ElementNode inheritedView() {
+      return this;
+    }
+
+    @Override
+    public @NonNull InheritableElementNode inherited(final @NonNull InheritancePolicy policy) {
+      return new InheritedJDOMElementNode(new JDOMElementNode(this.element, false), policy);
+    }
+
+    // nodes from different inheritances may resolve different attributes for the same element
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      return super.equals(other) && this.inheritance == ((ResolvedElementNode) other).inheritance;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * super.hashCode() + System.identityHashCode(this.inheritance);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node;
+
+import java.util.Arrays;
+import java.util.Collection;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Controls which attributes an element inherits from its ancestors.
+ */
+public interface InheritancePolicy {
+  /**
+   * Gets a policy which inherits all attributes from all ancestors.
+   *
+   * @return a policy
+   */
+  static @NonNull InheritancePolicy all() {
+    return InheritancePolicyImpl.ALL;
+  }
+
+  /**
+   * Creates a new builder.
+   *
+   * @return a new builder
+   */
+  static @NonNull Builder builder() {
+    return new InheritancePolicyBuilderImpl();
+  }
+
+  /**
+   * Checks if an attribute named {@code name} may be inherited.
+   *
+   * @param name the attribute name
+   * @return {@code true} if the attribute may be inherited, {@code false} otherwise
+   */
+  boolean inherits(final @NonNull String name);
+
+  /**
+   * Gets the maximum distance of an ancestor to inherit from, where the parent is at distance {@code 1}.
+   *
+   * @return the maximum distance
+   */
+  int maxDistance();
+
+  /**
+   * Checks if inheritance stops at an element named {@code name}.
+   *
+   * <p>A stop element may pass on its own attributes, but not those of its ancestors.</p>
+   *
+   * @param name the element name
+   * @return {@code true} if inheritance stops at the element, {@code false} otherwise
+   */
+  boolean stopsAt(final @NonNull String name);
+
+  /**
+   * An inheritance policy builder.
+   */
+  interface Builder {
+    /**
+     * Sets the names of the attributes which may be inherited.
+     *
+     * @param names the attribute names
+     * @return this builder
+     */
+    default @NonNull Builder attributes(final @NonNull String... names) {
+      return this.attributes(Arrays.asList(names));
+    }
+
+    /**
+     * Sets the names of the attributes which may be inherited.
+     *
+     * @param names the attribute names
+     * @return this builder
+     */
+    @NonNull Builder attributes(final @NonNull Collection<String> names);
+
+    /**
+     * Sets the maximum distance of an ancestor to inherit from, where the parent is at distance {@code 1}.
+     *
+     * @param maxDistance the maximum distance
+     * @return this builder
+     */
+    @NonNull Builder maxDistance(final int maxDistance);
+
+    /**
+     * Sets the names of the elements at which inheritance stops.
+     *
+     * @param names the element names
+     * @return this builder
+     */
+    default @NonNull Builder stopElements(final @NonNull String... names) {
+      return this.stopElements(Arrays.asList(names));
+    }
+
+    /**
+     * Sets the names of the elements at which inheritance stops.
+     *
+     * @param names the element names
+     * @return this builder
+     */
+    @NonNull Builder stopElements(final @NonNull Collection<String> names);
+
+    /**
+     * Builds an inheritance policy.
+     *
+     * @return the inheritance policy
+     */
+    @NonNull InheritancePolicy build();
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+final class InheritancePolicyBuilderImpl implements InheritancePolicy.Builder {
+  @Nullable Set<String> attributes;
+  int maxDistance = Integer.MAX_VALUE;
+  @NonNull Set<String> stopElements = Collections.emptySet();
+
+  @Override
+  public InheritancePolicy.@NonNull Builder attributes(final @NonNull Collection<String> names) {
+    this.attributes = new HashSet<>(requireNonNull(names, "names"));
+    return this;
+  }
+
+  @Override
+  public InheritancePolicy.@NonNull Builder maxDistance(final int maxDistance) {
+    if(maxDistance < 0) {
+      throw new IllegalArgumentException("max distance must not be negative: " + maxDistance);
+    }
+    this.maxDistance = maxDistance;
+    return this;
+  }
+
+  @Override
+  public InheritancePolicy.@NonNull Builder stopElements(final @NonNull Collection<String> names) {
+    this.stopElements = new HashSet<>(requireNonNull(names, "names"));
+    return this;
+  }
+
+  @Override
+  public @NonNull InheritancePolicy build() {
+    return new InheritancePolicyImpl(this.attributes, this.maxDistance, this.stopElements);
+  }
+}
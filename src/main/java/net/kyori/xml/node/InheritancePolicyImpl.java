@@ -0,0 +1,79 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final class InheritancePolicyImpl implements InheritancePolicy {
+  static final InheritancePolicy ALL = new InheritancePolicyImpl(null, Integer.MAX_VALUE, Collections.emptySet());
+  // null to inherit all attributes
+  private final @Nullable Set<String> attributes;
+  private final int maxDistance;
+  private final Set<String> stopElements;
+
+  InheritancePolicyImpl(final @Nullable Set<String> attributes, final int maxDistance, final @NonNull Set<String> stopElements) {
+    this.attributes = attributes;
+    this.maxDistance = maxDistance;
+    this.stopElements = stopElements;
+  }
+
+  @Override
+  public boolean inherits(final @NonNull String name) {
+    return this.attributes == null || this.attributes.contains(name);
+  }
+
+  @Override
+  public int maxDistance() {
+    return this.maxDistance;
+  }
+
+  @Override
+  public boolean stopsAt(final @NonNull String name) {
+    return this.stopElements.contains(name);
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if(this == other) return true;
+    if(other == null || this.getClass() != other.getClass()) return false;
+    final InheritancePolicyImpl that = (InheritancePolicyImpl) other;
+    return this.maxDistance == that.maxDistance
+      && Objects.equals(this.attributes, that.attributes)
+      && this.stopElements.equals(that.stopElements);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.attributes, this.maxDistance, this.stopElements);
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return "InheritancePolicy{attributes=" + this.attributes + ", maxDistance=" + this.maxDistance + ", stopElements=" + this.stopElements + '}';
+  }
+}
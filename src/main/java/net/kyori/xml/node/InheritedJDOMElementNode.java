@@ -0,0 +1,169 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/* package */ final class InheritedJDOMElementNode extends AbstractElementNode<org.jdom2.Element> implements InheritableElementNode {
+  private final JDOMElementNode node;
+  private final InheritancePolicy policy;
+  // only populated when the node is frozen
+  private volatile @Nullable List<Node> attributes;
+
+  /* package */ InheritedJDOMElementNode(final @NonNull JDOMElementNode node, final @NonNull InheritancePolicy policy) {
+    super(node.element);
+    this.node = node;
+    this.policy = policy;
+  }
+
+  @Override
+  public @NonNull String name() {
+    return this.node.name();
+  }
+
+  @Override
+  public @NonNull String value() {
+    return this.node.value();
+  }
+
+  @Override
+  public @NonNull String text() {
+    return this.node.text();
+  }
+
+  @Override
+  public @NonNull Stream<Node> elements() {
+    return this.node.elements();
+  }
+
+  @Override
+  public @NonNull Stream<Node> elements(final @NonNull Collection<String> names) {
+    return this.node.elements(names);
+  }
+
+  @Override
+  public @NonNull Stream<Node> attributes() {
+    return this.resolved().stream();
+  }
+
+  @Override
+  public @NonNull Stream<Node> attributes(final @NonNull Collection<String> names) {
+    if(this.node.frozen) {
+      return this.resolved().stream().filter(attribute -> names.contains(attribute.name()));
+    }
+    // each name is looked up through the ancestors, instead of resolving every attribute
+    final List<Node> attributes = new ArrayList<>(names.size());
+    for(final String name : names) {
+      final /* @Nullable */ org.jdom2.Attribute attribute = this.resolve(name);
+      if(attribute != null) {
+        attributes.add(Node.of(attribute));
+      }
+    }
+    return attributes.stream();
+  }
+
+  private org.jdom2.@Nullable Attribute resolve(final @NonNull String name) {
+    /* @Nullable */ org.jdom2.Element element = this.element;
+    for(int distance = 0; element != null && distance <= this.policy.maxDistance(); distance++) {
+      if(distance == 0 || this.policy.inherits(name)) {
+        final /* @Nullable */ org.jdom2.Attribute attribute = element.getAttribute(name);
+        if(attribute != null) {
+          return attribute;
+        }
+      }
+      if(this.policy.stopsAt(element.getName())) {
+        break;
+      }
+      element = element.getParentElement();
+    }
+    return null;
+  }
+
+  // the element of a frozen node is not modified, so its attributes are resolved once
+  private @NonNull List<Node> resolved() {
+    if(!this.node.frozen) {
+      return this.resolveAll();
+    }
+    /* @Nullable */ List<Node> attributes = this.attributes;
+    if(attributes == null) {
+      attributes = this.attributes = Collections.unmodifiableList(this.resolveAll());
+    }
+    return attributes;
+  }
+
+  private @NonNull List<Node> resolveAll() {
+    final List<Node> attributes = new ArrayList<>();
+    final Set<String> seen = new HashSet<>();
+    /* @Nullable */ org.jdom2.Element element = this.element;
+    for(int distance = 0; element != null && distance <= this.policy.maxDistance(); distance++) {
+      for(final org.jdom2.Attribute attribute : element.getAttributes()) {
+        final String name = attribute.getName();
+        if((distance == 0 || this.policy.inherits(name)) && seen.add(name)) {
+          attributes.add(Node.of(attribute));
+        }
+      }
+      if(this.policy.stopsAt(element.getName())) {
+        break;
+      }
+      element = element.getParentElement();
+    }
+    return attributes;
+  }
+
+  @Override
+  public @NonNull ElementNode inherited() {
+    return this;
+  }
+
+  @Override
+  public @NonNull ElementNode inheritedView() {
+    return this.inherited(InheritancePolicy.all());
+  }
+
+  @Override
+  public @NonNull InheritableElementNode inherited(final @NonNull InheritancePolicy policy) {
+    if(this.policy.equals(policy)) {
+      return this;
+    }
+    return this.node.inherited(policy);
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    return super.equals(other) && this.policy.equals(((InheritedJDOMElementNode) other).policy);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * super.hashCode() + this.policy.hashCode();
+  }
+}
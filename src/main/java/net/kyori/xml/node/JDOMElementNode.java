@@ -0,0 +1,162 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+import net.kyori.xml.element.Elements;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/* package */ final class JDOMElementNode extends AbstractElementNode<org.jdom2.Element> implements InheritableElementNode {
+  /* package */ final boolean frozen;
+  // only populated when frozen
+  private @Nullable String value;
+  private volatile @Nullable List<Node> elements;
+  private volatile @Nullable ElementNode inherited;
+  private volatile @Nullable InheritableElementNode view;
+
+  /* package */ JDOMElementNode(final org.jdom2.@NonNull Element element, final boolean frozen) {
+    super(element);
+    this.frozen = frozen;
+  }
+
+  @Override
+  public @NonNull String name() {
+    return this.element.getName();
+  }
+
+  @Override
+  public @NonNull String value() {
+    if(!this.frozen) {
+      return this.element.getValue();
+    }
+    /* @Nullable */ String value = this.value;
+    if(value == null) {
+      value = this.value = this.element.getValue();
+    }
+    return value;
+  }
+
+  @Override
+  public @NonNull String text() {
+    return this.element.getText();
+  }
+
+  @Override
+  public @NonNull Stream<Node> elements() {
+    if(!this.frozen) {
+      return this.element.getChildren().stream().map(Node::of);
+    }
+    return this.frozenElements().stream();
+  }
+
+  @Override
+  public @NonNull Stream<Node> elements(final @NonNull Collection<String> names) {
+    if(!this.frozen) {
+      return this.element.getChildren().stream()
+        .filter(attribute -> names.contains(attribute.getName()))
+        .map(Node::of);
+    }
+    return this.frozenElements().stream()
+      .filter(element -> names.contains(element.name()));
+  }
+
+  private @NonNull List<Node> frozenElements() {
+    /* @Nullable */ List<Node> elements = this.elements;
+    if(elements == null) {
+      // children must be created once, so that their own caches are shared
+      synchronized(this) {
+        elements = this.elements;
+        if(elements == null) {
+          final List<org.jdom2.Element> children = this.element.getChildren();
+          final List<Node> nodes = new ArrayList<>(children.size());
+          for(final org.jdom2.Element child : children) {
+            nodes.add(new JDOMElementNode(child, true));
+          }
+          elements = this.elements = Collections.unmodifiableList(nodes);
+        }
+      }
+    }
+    return elements;
+  }
+
+  @Override
+  public @NonNull Stream<Node> attributes() {
+    return this.element.getAttributes().stream().map(Node::of);
+  }
+
+  @Override
+  public @NonNull Stream<Node> attributes(final @NonNull Collection<String> names) {
+    return this.element.getAttributes().stream()
+      .filter(attribute -> names.contains(attribute.getName()))
+      .map(Node::of);
+  }
+
+  @Override
+  public @NonNull ElementNode inherited() {
+    if(Elements.Inherited.is(this.element)) {
+      return this;
+    }
+    if(!this.frozen) {
+      return new JDOMElementNode(Elements.Inherited.of(this.element), false);
+    }
+    /* @Nullable */ ElementNode inherited = this.inherited;
+    if(inherited == null) {
+      synchronized(this) {
+        inherited = this.inherited;
+        if(inherited == null) {
+          inherited = this.inherited = new JDOMElementNode(Elements.Inherited.of(this.element), true);
+        }
+      }
+    }
+    return inherited;
+  }
+
+  @Override
+  public @NonNull ElementNode inheritedView() {
+    return this.inherited(InheritancePolicy.all());
+  }
+
+  @Override
+  public @NonNull InheritableElementNode inherited(final @NonNull InheritancePolicy policy) {
+    if(!this.frozen || !policy.equals(InheritancePolicy.all())) {
+      return new InheritedJDOMElementNode(this, policy);
+    }
+    // the view is shared, so that its resolved attributes are too
+    /* @Nullable */ InheritableElementNode view = this.view;
+    if(view == null) {
+      synchronized(this) {
+        view = this.view;
+        if(view == null) {
+          view = this.view = new InheritedJDOMElementNode(this, policy);
+        }
+      }
+    }
+    return view;
+  }
+}
@@ -27,8 +27,11 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import net.kyori.mu.AmbiguousElementException;
 import net.kyori.mu.Maybe;
+import net.kyori.xml.node.function.NodePredicate;
+import net.kyori.xml.node.function.NodePredicates;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public interface Node {
@@ -66,6 +69,17 @@ public interface Node {
    */
   @NonNull String value();
 
+  /**
+   * Gets the text of this node.
+   *
+   * <p>Unlike {@link #value()}, this does not include the text of any descendants.</p>
+   *
+   * @return the text
+   */
+  default @NonNull String text() {
+    return this.value();
+  }
+
   /**
    * Creates a stream of nodes from the attributes and children elements of this node.
    *
@@ -182,6 +196,53 @@ public interface Node {
     return this.elements(name).collect(Maybe.collector());
   }
 
+  /**
+   * Creates a stream of nodes from the descendant elements of this node, in pre-order.
+   *
+   * @return a stream of nodes
+   */
+  default @NonNull Stream<Node> descendants() {
+    return this.descendants(Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a stream of nodes from the descendant elements of this node, in pre-order.
+   *
+   * <p>The children of this node are at depth {@code 1}.</p>
+   *
+   * @param maxDepth the maximum depth
+   * @return a stream of nodes
+   */
+  default @NonNull Stream<Node> descendants(final int maxDepth) {
+    return this.descendants(maxDepth, NodePredicates.alwaysTrue());
+  }
+
+  /**
+   * Creates a stream of nodes from the descendant elements of this node matching a predicate, in pre-order.
+   *
+   * @param predicate the predicate
+   * @return a stream of nodes
+   */
+  default @NonNull Stream<Node> descendants(final @NonNull NodePredicate predicate) {
+    return this.descendants(Integer.MAX_VALUE, predicate);
+  }
+
+  /**
+   * Creates a stream of nodes from the descendant elements of this node matching a predicate, in pre-order.
+   *
+   * <p>The children of this node are at depth {@code 1}. Nodes which do not match {@code predicate}
+   * are skipped, but their descendants are still visited.</p>
+   *
+   * <p>The stream splits by subtree, and so is suitable for {@link Stream#parallel() parallel} use.</p>
+   *
+   * @param maxDepth the maximum depth
+   * @param predicate the predicate
+   * @return a stream of nodes
+   */
+  default @NonNull Stream<Node> descendants(final int maxDepth, final @NonNull NodePredicate predicate) {
+    return StreamSupport.stream(new DescendantSpliterator(this, maxDepth, predicate), false);
+  }
+
   /**
    * Creates a stream of nodes from the attributes of this node.
    *
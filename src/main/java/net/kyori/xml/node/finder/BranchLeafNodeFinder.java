@@ -23,9 +23,16 @@
  */
 package net.kyori.xml.node.finder;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import net.kyori.xml.node.Node;
 import net.kyori.xml.node.function.NodeFunction;
 import net.kyori.xml.node.function.NodePredicate;
@@ -33,10 +40,10 @@ import net.kyori.xml.node.function.NodePredicates;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public class BranchLeafNodeFinder implements NodeDepthFinder {
-  private final NodePredicate branchPredicate;
-  private final NodeFunction branchMapper;
-  private final NodePredicate leafPredicate;
-  private final NodeFunction leafMapper;
+  /* package */ final NodePredicate branchPredicate;
+  /* package */ final NodeFunction branchMapper;
+  /* package */ final NodePredicate leafPredicate;
+  /* package */ final NodeFunction leafMapper;
 
   public BranchLeafNodeFinder(final @NonNull String branch, final @NonNull String leaf) {
     this(Collections.singleton(branch), Collections.singleton(leaf));
@@ -59,11 +66,53 @@ public class BranchLeafNodeFinder implements NodeDepthFinder {
 
   @Override
   public @NonNull Stream<Node> nodes(final @NonNull Node node, final int depth) {
-    if(this.branchPredicate.test(node, depth)) {
-      return this.branchMapper.apply(node, depth).nodes().flatMap(parent -> this.nodes(parent, depth + 1));
-    } else if(this.leafPredicate.test(node, depth)) {
-      return Stream.of(this.leafMapper.apply(node, depth));
+    return StreamSupport.stream(new Walker(node, depth), false);
+  }
+
+  @Override
+  public void forEach(final @NonNull Node node, final int depth, final @NonNull Consumer<? super Node> consumer) {
+    new Walker(node, depth).forEachRemaining(consumer);
+  }
+
+  /**
+   * Walks branches using an explicit stack, rather than recursion.
+   */
+  private final class Walker extends Spliterators.AbstractSpliterator<Node> {
+    private final Deque<Level> stack = new ArrayDeque<>();
+
+    Walker(final @NonNull Node node, final int depth) {
+      super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+      this.stack.push(new Level(Collections.singleton(node).iterator(), depth));
+    }
+
+    @Override
+    public boolean tryAdvance(final @NonNull Consumer<? super Node> action) {
+      /* @Nullable */ Level level;
+      while((level = this.stack.peek()) != null) {
+        if(!level.nodes.hasNext()) {
+          this.stack.pop();
+          continue;
+        }
+        final Node node = level.nodes.next();
+        final int depth = level.depth;
+        if(BranchLeafNodeFinder.this.branchPredicate.test(node, depth)) {
+          this.stack.push(new Level(BranchLeafNodeFinder.this.branchMapper.apply(node, depth).nodes().iterator(), depth + 1));
+        } else if(BranchLeafNodeFinder.this.leafPredicate.test(node, depth)) {
+          action.accept(BranchLeafNodeFinder.this.leafMapper.apply(node, depth));
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static final class Level {
+    final Iterator<Node> nodes;
+    final int depth;
+
+    Level(final @NonNull Iterator<Node> nodes, final int depth) {
+      this.nodes = nodes;
+      this.depth = depth;
     }
-    return Stream.empty();
   }
 }
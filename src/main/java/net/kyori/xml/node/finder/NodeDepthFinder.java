@@ -23,6 +23,7 @@
  */
 package net.kyori.xml.node.finder;
 
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import net.kyori.xml.node.Node;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -37,6 +38,11 @@ public interface NodeDepthFinder extends NodeFinder {
     return this.nodes(parent, 0);
   }
 
+  @Override
+  default void forEach(final @NonNull Node parent, final @NonNull Consumer<? super Node> consumer) {
+    this.forEach(parent, 0, consumer);
+  }
+
   /**
    * Finds nodes.
    *
@@ -45,4 +51,15 @@ public interface NodeDepthFinder extends NodeFinder {
    * @return a stream of nodes
    */
   @NonNull Stream<Node> nodes(final @NonNull Node parent, final int depth);
+
+  /**
+   * Finds nodes, passing each to {@code consumer}.
+   *
+   * @param parent the parent node
+   * @param depth the depth
+   * @param consumer the consumer
+   */
+  default void forEach(final @NonNull Node parent, final int depth, final @NonNull Consumer<? super Node> consumer) {
+    this.nodes(parent, depth).forEach(consumer);
+  }
 }
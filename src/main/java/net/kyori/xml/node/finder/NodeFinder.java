@@ -23,6 +23,7 @@
  */
 package net.kyori.xml.node.finder;
 
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import net.kyori.xml.node.Node;
@@ -49,4 +50,14 @@ public interface NodeFinder extends Function<Node, Stream<Node>> {
    * @return a stream of nodes
    */
   @NonNull Stream<Node> nodes(final @NonNull Node parent);
+
+  /**
+   * Finds nodes, passing each to {@code consumer}.
+   *
+   * @param parent the parent node
+   * @param consumer the consumer
+   */
+  default void forEach(final @NonNull Node parent, final @NonNull Consumer<? super Node> consumer) {
+    this.nodes(parent).forEach(consumer);
+  }
 }
@@ -0,0 +1,85 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.finder;
+
+import java.util.function.Consumer;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.function.NodePredicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Runs many finders over the same node, routing the nodes found by each finder to its consumer.
+ *
+ * <p>{@link BranchLeafNodeFinder}s and predicates are evaluated together in a single depth-first pass,
+ * so one traversal of the tree is shared by all of them. The predicates of every finder are still tested
+ * against each node visited. Other finders are run on their own.</p>
+ */
+public interface NodeFinderDispatcher {
+  /**
+   * Creates a new builder.
+   *
+   * @return a new builder
+   */
+  static @NonNull Builder builder() {
+    return new NodeFinderDispatcherBuilderImpl();
+  }
+
+  /**
+   * Runs all finders over {@code parent}.
+   *
+   * @param parent the parent node
+   */
+  void dispatch(final @NonNull Node parent);
+
+  /**
+   * A node finder dispatcher builder.
+   */
+  interface Builder {
+    /**
+     * Adds a finder.
+     *
+     * @param finder the finder
+     * @param consumer the consumer of found nodes
+     * @return this builder
+     */
+    @NonNull Builder add(final @NonNull NodeFinder finder, final @NonNull Consumer<? super Node> consumer);
+
+    /**
+     * Adds a predicate, matched against descendant elements of the parent node.
+     *
+     * @param predicate the predicate
+     * @param consumer the consumer of matching nodes
+     * @return this builder
+     * @see Node#descendants(NodePredicate)
+     */
+    @NonNull Builder add(final @NonNull NodePredicate predicate, final @NonNull Consumer<? super Node> consumer);
+
+    /**
+     * Builds a node finder dispatcher.
+     *
+     * @return the node finder dispatcher
+     */
+    @NonNull NodeFinderDispatcher build();
+  }
+}
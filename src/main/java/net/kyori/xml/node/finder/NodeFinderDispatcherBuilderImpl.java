@@ -0,0 +1,64 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.finder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.function.NodePredicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import static java.util.Objects.requireNonNull;
+
+final class NodeFinderDispatcherBuilderImpl implements NodeFinderDispatcher.Builder {
+  private final List<NodeFinderDispatcherImpl.Route> routes = new ArrayList<>();
+  private final List<NodeFinderDispatcherImpl.Other> others = new ArrayList<>();
+
+  @Override
+  public NodeFinderDispatcher.@NonNull Builder add(final @NonNull NodeFinder finder, final @NonNull Consumer<? super Node> consumer) {
+    requireNonNull(finder, "finder");
+    requireNonNull(consumer, "consumer");
+    // subclasses may change how nodes are found, so only exact instances can be walked together
+    if(finder.getClass() == BranchLeafNodeFinder.class) {
+      this.routes.add(new NodeFinderDispatcherImpl.Route((BranchLeafNodeFinder) finder, null, consumer));
+    } else {
+      this.others.add(new NodeFinderDispatcherImpl.Other(finder, consumer));
+    }
+    return this;
+  }
+
+  @Override
+  public NodeFinderDispatcher.@NonNull Builder add(final @NonNull NodePredicate predicate, final @NonNull Consumer<? super Node> consumer) {
+    requireNonNull(predicate, "predicate");
+    requireNonNull(consumer, "consumer");
+    this.routes.add(new NodeFinderDispatcherImpl.Route(null, predicate, consumer));
+    return this;
+  }
+
+  @Override
+  public @NonNull NodeFinderDispatcher build() {
+    return new NodeFinderDispatcherImpl(new ArrayList<>(this.routes), new ArrayList<>(this.others));
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.finder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.function.NodeFunction;
+import net.kyori.xml.node.function.NodePredicate;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+final class NodeFinderDispatcherImpl implements NodeFinderDispatcher {
+  private final List<Route> routes;
+  private final List<Other> others;
+
+  NodeFinderDispatcherImpl(final @NonNull List<Route> routes, final @NonNull List<Other> others) {
+    this.routes = routes;
+    this.others = others;
+  }
+
+  @Override
+  public void dispatch(final @NonNull Node parent) {
+    if(!this.routes.isEmpty()) {
+      walk(parent, this.routes);
+    }
+    for(final Other other : this.others) {
+      other.finder.forEach(parent, other.consumer);
+    }
+  }
+
+  /*
+   * Each frame carries the routes still interested in its node. Routes whose branches map a
+   * node to the same node share a view, and so share the walk of that view's children.
+   */
+  private static void walk(final @NonNull Node parent, final @NonNull List<Route> routes) {
+    final Deque<Frame> stack = new ArrayDeque<>();
+    stack.push(new Frame(parent, 0, routes));
+    /* @Nullable */ Frame frame;
+    while((frame = stack.poll()) != null) {
+      final Node node = frame.node;
+      final int depth = frame.depth;
+      final Views views = new Views(node, depth);
+      for(final Route route : frame.routes) {
+        final /* @Nullable */ BranchLeafNodeFinder finder = route.finder;
+        if(finder == null) {
+          if(depth > 0 && route.predicate.test(node, depth)) {
+            route.consumer.accept(node);
+          }
+          views.add(node, route);
+        } else if(finder.branchPredicate.test(node, depth)) {
+          views.add(views.map(finder.branchMapper), route);
+        } else if(finder.leafPredicate.test(node, depth)) {
+          route.consumer.accept(finder.leafMapper.apply(node, depth));
+        }
+      }
+      // pushed in reverse so that views are visited in the order they were found
+      for(int i = views.nodes.size() - 1; i >= 0; i--) {
+        push(stack, views.nodes.get(i), depth + 1, views.routes.get(i));
+      }
+    }
+  }
+
+  private static void push(final @NonNull Deque<Frame> stack, final @NonNull Node node, final int depth, final @NonNull List<Route> routes) {
+    final List<Node> elements = node.elements().collect(Collectors.toList());
+    for(int i = elements.size() - 1; i >= 0; i--) {
+      stack.push(new Frame(elements.get(i), depth, routes));
+    }
+    // Predicates only match elements, but branches also walk attributes
+    final List<Route> attributeRoutes = routes.stream().filter(route -> route.finder != null).collect(Collectors.toList());
+    if(!attributeRoutes.isEmpty()) {
+      final List<Node> attributes = node.attributes().collect(Collectors.toList());
+      for(int i = attributes.size() - 1; i >= 0; i--) {
+        stack.push(new Frame(attributes.get(i), depth, attributeRoutes));
+      }
+    }
+  }
+
+  /**
+   * The distinct nodes a node has been mapped to, and the routes interested in each.
+   */
+  private static final class Views {
+    private final Node node;
+    private final int depth;
+    private final List<NodeFunction> mappers = new ArrayList<>(1);
+    private final List<Node> mapped = new ArrayList<>(1);
+    final List<Node> nodes = new ArrayList<>(1);
+    final List<List<Route>> routes = new ArrayList<>(1);
+
+    Views(final @NonNull Node node, final int depth) {
+      this.node = node;
+      this.depth = depth;
+    }
+
+    @NonNull Node map(final @NonNull NodeFunction mapper) {
+      // A mapper shared between finders is only applied once
+      final int index = this.mappers.indexOf(mapper);
+      if(index != -1) {
+        return this.mapped.get(index);
+      }
+      final Node node = mapper.apply(this.node, this.depth);
+      this.mappers.add(mapper);
+      this.mapped.add(node);
+      return node;
+    }
+
+    void add(final @NonNull Node node, final @NonNull Route route) {
+      for(int i = 0, size = this.nodes.size(); i < size; i++) {
+        final Node existing = this.nodes.get(i);
+        if(existing == node || existing.equals(node)) {
+          this.routes.get(i).add(route);
+          return;
+        }
+      }
+      final List<Route> routes = new ArrayList<>();
+      routes.add(route);
+      this.nodes.add(node);
+      this.routes.add(routes);
+    }
+  }
+
+  private static final class Frame {
+    final Node node;
+    final int depth;
+    final List<Route> routes;
+
+    Frame(final @NonNull Node node, final int depth, final @NonNull List<Route> routes) {
+      this.node = node;
+      this.depth = depth;
+      this.routes = routes;
+    }
+  }
+
+  /**
+   * A branch and leaf finder, or a predicate, walked as part of the single pass.
+   */
+  static final class Route {
+    final @Nullable BranchLeafNodeFinder finder;
+    final @Nullable NodePredicate predicate;
+    final Consumer<? super Node> consumer;
+
+    Route(final @Nullable BranchLeafNodeFinder finder, final @Nullable NodePredicate predicate, final @NonNull Consumer<? super Node> consumer) {
+      this.finder = finder;
+      this.predicate = predicate;
+      this.consumer = consumer;
+    }
+  }
+
+  /**
+   * A finder which is run on its own.
+   */
+  static final class Other {
+    final NodeFinder finder;
+    final Consumer<? super Node> consumer;
+
+    Other(final @NonNull NodeFinder finder, final @NonNull Consumer<? super Node> consumer) {
+      this.finder = finder;
+      this.consumer = consumer;
+    }
+  }
+}
@@ -0,0 +1,365 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.finder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import net.kyori.xml.node.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Finds nodes using a compiled path expression.
+ *
+ * <p>A path is a list of steps separated by {@code /} (children) or {@code //} (descendants),
+ * relative to the parent node. Each step is an element name, or {@code *} for any element, followed
+ * by any number of predicates:</p>
+ * <ul>
+ *   <li>{@code [@name]} - the element has an attribute named {@code name}</li>
+ *   <li>{@code [@name='value']} - the element has an attribute named {@code name} equal to {@code value}</li>
+ *   <li>{@code [@name!='value']} - the element does not have an attribute named {@code name} equal to {@code value}</li>
+ *   <li>{@code [n]} - the {@code n}th element matched by the step, counting from {@code 1}, from each node</li>
+ * </ul>
+ *
+ * <p>The last step may instead be {@code @name}, or {@code @*}, to select attributes.</p>
+ *
+ * <p>For example, {@code regions//cuboid[@team='red'][1]/@min}.</p>
+ *
+ * <p>Paths are immutable, and may be shared between threads.</p>
+ *
+ * <p>Nodes are visited through {@link Node#elements()} and {@link Node#attributes(Collection)}, so
+ * evaluation still allocates whatever those do for each visited node, typically a stream and its
+ * iterator. Only the lists of intermediate matches are avoided: nodes are passed from step to step as
+ * they are found, and are collected only when duplicates must be removed.</p>
+ */
+public final class PathNodeFinder implements NodeFinder {
+  private final String path;
+  private final Step[] steps;
+  // nested descendant steps may reach the same node more than once
+  private final boolean distinct;
+
+  private PathNodeFinder(final @NonNull String path, final @NonNull Step[] steps) {
+    this.path = path;
+    this.steps = steps;
+    boolean distinct = false;
+    for(int i = 1; i < steps.length; i++) {
+      if(steps[i].axis == Axis.DESCENDANT) {
+        distinct = true;
+        break;
+      }
+    }
+    this.distinct = distinct;
+  }
+
+  /**
+   * Compiles a path.
+   *
+   * @param path the path
+   * @return a node finder
+   * @throws IllegalArgumentException if {@code path} is not a valid path
+   */
+  public static @NonNull PathNodeFinder compile(final @NonNull String path) {
+    return new PathNodeFinder(path, new Compiler(path).compile());
+  }
+
+  @Override
+  public @NonNull Stream<Node> nodes(final @NonNull Node parent) {
+    final Collection<Node> nodes = this.distinct ? new LinkedHashSet<>() : new ArrayList<>();
+    this.evaluate(parent, 0, nodes::add);
+    return nodes.stream();
+  }
+
+  @Override
+  public void forEach(final @NonNull Node parent, final @NonNull Consumer<? super Node> consumer) {
+    if(this.distinct) {
+      this.nodes(parent).forEach(consumer);
+    } else {
+      this.evaluate(parent, 0, consumer);
+    }
+  }
+
+  private void evaluate(final @NonNull Node node, final int index, final @NonNull Consumer<? super Node> consumer) {
+    if(index == this.steps.length) {
+      consumer.accept(node);
+      return;
+    }
+    final Step step = this.steps[index];
+    final Iterator<Node> candidates;
+    switch(step.axis) {
+      case ATTRIBUTE:
+        candidates = (step.names == null ? node.attributes() : node.attributes(step.names)).iterator();
+        break;
+      case CHILD:
+        candidates = node.elements().iterator();
+        break;
+      case DESCENDANT:
+        this.descendants(node, step, index, consumer);
+        return;
+      default:
+        throw new IllegalStateException(step.axis.name());
+    }
+    int position = 0;
+    while(candidates.hasNext()) {
+      final Node candidate = candidates.next();
+      if(step.test(candidate) && this.select(candidate, step, ++position, index, consumer)) {
+        break;
+      }
+    }
+  }
+
+  // walks the descendants in pre-order, with a stack of child iterators rather than a list of children per node
+  private void descendants(final @NonNull Node node, final @NonNull Step step, final int index, final @NonNull Consumer<? super Node> consumer) {
+    final Deque<Iterator<Node>> stack = new ArrayDeque<>();
+    stack.push(node.elements().iterator());
+    int position = 0;
+    while(!stack.isEmpty()) {
+      final Iterator<Node> children = stack.peek();
+      if(!children.hasNext()) {
+        stack.pop();
+        continue;
+      }
+      final Node candidate = children.next();
+      if(step.test(candidate) && this.select(candidate, step, ++position, index, consumer)) {
+        return;
+      }
+      stack.push(candidate.elements().iterator());
+    }
+  }
+
+  // returns true once the step has selected its only node
+  private boolean select(final @NonNull Node candidate, final @NonNull Step step, final int position, final int index, final @NonNull Consumer<? super Node> consumer) {
+    if(step.position == 0) {
+      this.evaluate(candidate, index + 1, consumer);
+      return false;
+    } else if(step.position == position) {
+      this.evaluate(candidate, index + 1, consumer);
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return "PathNodeFinder{" + this.path + '}';
+  }
+
+  private enum Axis {
+    ATTRIBUTE,
+    CHILD,
+    DESCENDANT;
+  }
+
+  private static final class Step {
+    final Axis axis;
+    // null to match any name
+    final @Nullable String name;
+    // the name, as passed to Node#attributes(Collection)
+    final @Nullable Collection<String> names;
+    final Attribute[] attributes;
+    // 0 for any position
+    final int position;
+
+    Step(final @NonNull Axis axis, final @Nullable String name, final @NonNull Attribute[] attributes, final int position) {
+      this.axis = axis;
+      this.name = name;
+      this.names = name == null ? null : Collections.singleton(name);
+      this.attributes = attributes;
+      this.position = position;
+    }
+
+    boolean test(final @NonNull Node node) {
+      if(this.name != null && !this.name.equals(node.name())) {
+        return false;
+      }
+      for(final Attribute attribute : this.attributes) {
+        if(!attribute.test(node)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static final class Attribute {
+    final Collection<String> names;
+    // null to only require presence
+    final @Nullable String value;
+    final boolean negated;
+
+    Attribute(final @NonNull String name, final @Nullable String value, final boolean negated) {
+      this.names = Collections.singleton(name);
+      this.value = value;
+      this.negated = negated;
+    }
+
+    boolean test(final @NonNull Node node) {
+      final Iterator<Node> attributes = node.attributes(this.names).iterator();
+      if(!attributes.hasNext()) {
+        return this.negated;
+      }
+      return this.value == null || (this.value.equals(attributes.next().value()) != this.negated);
+    }
+  }
+
+  private static final class Compiler {
+    private final String path;
+    private int index;
+
+    Compiler(final @NonNull String path) {
+      this.path = path;
+    }
+
+    Step @NonNull [] compile() {
+      final List<Step> steps = new ArrayList<>();
+      Axis axis = Axis.CHILD;
+      if(this.consume("//")) {
+        axis = Axis.DESCENDANT;
+      } else {
+        this.consume("/");
+      }
+      while(true) {
+        final Step step = this.step(axis);
+        steps.add(step);
+        if(this.index == this.path.length()) {
+          break;
+        }
+        if(step.axis == Axis.ATTRIBUTE) {
+          throw this.error("attributes have no children");
+        }
+        if(this.consume("//")) {
+          axis = Axis.DESCENDANT;
+        } else if(this.consume("/")) {
+          axis = Axis.CHILD;
+        } else {
+          throw this.error("expected '/'");
+        }
+      }
+      return steps.toArray(new Step[0]);
+    }
+
+    private @NonNull Step step(final @NonNull Axis axis) {
+      if(this.consume("@")) {
+        if(axis == Axis.DESCENDANT) {
+          throw this.error("attributes cannot be selected as descendants");
+        }
+        return new Step(Axis.ATTRIBUTE, this.nameTest(), new Attribute[0], 0);
+      }
+      final /* @Nullable */ String name = this.nameTest();
+      final List<Attribute> attributes = new ArrayList<>();
+      int position = 0;
+      while(this.consume("[")) {
+        if(this.consume("@")) {
+          final String attribute = this.name();
+          if(this.consume("=")) {
+            attributes.add(new Attribute(attribute, this.literal(), false));
+          } else if(this.consume("!=")) {
+            attributes.add(new Attribute(attribute, this.literal(), true));
+          } else {
+            attributes.add(new Attribute(attribute, null, false));
+          }
+        } else {
+          if(position != 0) {
+            throw this.error("only one position may be given");
+          }
+          position = this.position();
+        }
+        if(!this.consume("]")) {
+          throw this.error("expected ']'");
+        }
+      }
+      return new Step(axis, name, attributes.toArray(new Attribute[0]), position);
+    }
+
+    private @Nullable String nameTest() {
+      return this.consume("*") ? null : this.name();
+    }
+
+    private @NonNull String name() {
+      final int start = this.index;
+      while(this.index < this.path.length() && isNameChar(this.path.charAt(this.index))) {
+        this.index++;
+      }
+      if(start == this.index) {
+        throw this.error("expected a name");
+      }
+      return this.path.substring(start, this.index);
+    }
+
+    private int position() {
+      final int start = this.index;
+      int position = 0;
+      while(this.index < this.path.length() && this.path.charAt(this.index) >= '0' && this.path.charAt(this.index) <= '9') {
+        position = position * 10 + (this.path.charAt(this.index++) - '0');
+        if(position > 1_000_000) {
+          throw this.error("position is too large");
+        }
+      }
+      if(start == this.index || position == 0) {
+        throw this.error("expected a position of at least 1");
+      }
+      return position;
+    }
+
+    private @NonNull String literal() {
+      if(this.index == this.path.length()) {
+        throw this.error("expected a quoted value");
+      }
+      final char quote = this.path.charAt(this.index);
+      if(quote != '\'' && quote != '"') {
+        throw this.error("expected a quoted value");
+      }
+      final int end = this.path.indexOf(quote, this.index + 1);
+      if(end == -1) {
+        throw this.error("unterminated quoted value");
+      }
+      final String literal = this.path.substring(this.index + 1, end);
+      this.index = end + 1;
+      return literal;
+    }
+
+    private boolean consume(final @NonNull String token) {
+      if(this.path.startsWith(token, this.index)) {
+        this.index += token.length();
+        return true;
+      }
+      return false;
+    }
+
+    private @NonNull IllegalArgumentException error(final @NonNull String message) {
+      return new IllegalArgumentException("Invalid path '" + this.path + "' at index " + this.index + ": " + message);
+    }
+
+    private static boolean isNameChar(final char c) {
+      return Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '.' || c == ':';
+    }
+  }
+}
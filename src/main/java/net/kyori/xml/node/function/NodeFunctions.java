@@ -24,6 +24,8 @@
 package net.kyori.xml.node.function;
 
 import net.kyori.xml.node.ElementNode;
+import net.kyori.xml.node.InheritableElementNode;
+import net.kyori.xml.node.InheritancePolicy;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public interface NodeFunctions {
@@ -52,4 +54,47 @@ public interface NodeFunctions {
       return node;
     };
   }
+
+  /**
+   * Inherit attributes through a view if the node is an element.
+   *
+   * @return a unary operator
+   * @see ElementNode#inheritedView()
+   */
+  static @NonNull NodeFunction inheritView() {
+    return inheritView(0);
+  }
+
+  /**
+   * Inherit attributes through a view if the node is an element.
+   *
+   * @param minimumDepth the minimum depth to apply the function
+   * @return a unary operator
+   * @see ElementNode#inheritedView()
+   */
+  static @NonNull NodeFunction inheritView(final int minimumDepth) {
+    return (node, depth) -> {
+      if(depth >= minimumDepth && node instanceof ElementNode) {
+        return ((ElementNode) node).inheritedView();
+      }
+      return node;
+    };
+  }
+
+  /**
+   * Inherit attributes allowed by {@code policy} through a view if the node is an {@link InheritableElementNode inheritable element}.
+   *
+   * @param minimumDepth the minimum depth to apply the function
+   * @param policy the inheritance policy
+   * @return a unary operator
+   * @see InheritableElementNode#inherited(InheritancePolicy)
+   */
+  static @NonNull NodeFunction inherit(final int minimumDepth, final @NonNull InheritancePolicy policy) {
+    return (node, depth) -> {
+      if(depth >= minimumDepth && node instanceof InheritableElementNode) {
+        return ((InheritableElementNode) node).inherited(policy);
+      }
+      return node;
+    };
+  }
 }
@@ -23,15 +23,28 @@
  */
 package net.kyori.xml.node.parser;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import net.kyori.xml.XMLException;
 import net.kyori.xml.node.Node;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 /**
  * Parses a {@link Node} into a {@link Boolean boolean}.
+ *
+ * <p>By default, only {@code true} and {@code false} are accepted. Parsers accepting other
+ * {@link Vocabulary vocabularies} are created with {@link #of(boolean, Vocabulary...)}, once, and then
+ * shared - matching a value does not allocate.</p>
  */
 public class BooleanParser implements PrimitiveParser<Boolean> {
   private static final BooleanParser INSTANCE = new BooleanParser();
+  private static final BooleanParser LENIENT = of(true, Vocabulary.values());
+  private final boolean ignoreCase;
+  // words indexed by their length, so most values are rejected without comparing characters
+  private final String[][] trueWords;
+  private final String[][] falseWords;
 
   /**
    * Gets the parser.
@@ -42,6 +55,68 @@ public class BooleanParser implements PrimitiveParser<Boolean> {
     return INSTANCE;
   }
 
+  /**
+   * Gets a parser accepting every {@link Vocabulary vocabulary}, ignoring case.
+   *
+   * @return the parser
+   */
+  public static @NonNull BooleanParser lenient() {
+    return LENIENT;
+  }
+
+  /**
+   * Creates a parser accepting the words of {@code vocabularies}.
+   *
+   * @param ignoreCase if case should be ignored
+   * @param vocabularies the vocabularies
+   * @return a parser
+   * @throws IllegalArgumentException if no vocabularies are given
+   */
+  public static @NonNull BooleanParser of(final boolean ignoreCase, final @NonNull Vocabulary @NonNull ... vocabularies) {
+    if(vocabularies.length == 0) {
+      throw new IllegalArgumentException("At least one vocabulary is required");
+    }
+    final Set<Vocabulary> set = EnumSet.noneOf(Vocabulary.class);
+    for(final Vocabulary vocabulary : vocabularies) {
+      set.add(vocabulary);
+    }
+    return new BooleanParser(ignoreCase, set);
+  }
+
+  public BooleanParser() {
+    this(false, EnumSet.of(Vocabulary.TRUE_FALSE));
+  }
+
+  private BooleanParser(final boolean ignoreCase, final @NonNull Set<Vocabulary> vocabularies) {
+    this.ignoreCase = ignoreCase;
+    final List<String> trueWords = new ArrayList<>();
+    final List<String> falseWords = new ArrayList<>();
+    for(final Vocabulary vocabulary : vocabularies) {
+      trueWords.add(vocabulary.trueWord);
+      falseWords.add(vocabulary.falseWord);
+    }
+    this.trueWords = byLength(trueWords);
+    this.falseWords = byLength(falseWords);
+  }
+
+  private static @NonNull String @NonNull [] @NonNull [] byLength(final @NonNull List<String> words) {
+    int max = 0;
+    for(final String word : words) {
+      max = Math.max(max, word.length());
+    }
+    final String[][] byLength = new String[max + 1][];
+    for(int length = 0; length <= max; length++) {
+      final List<String> matching = new ArrayList<>();
+      for(final String word : words) {
+        if(word.length() == length) {
+          matching.add(word);
+        }
+      }
+      byLength[length] = matching.toArray(new String[0]);
+    }
+    return byLength;
+  }
+
   @Override
   public @NonNull Boolean throwingParse(final @NonNull Node node, final @NonNull String string) throws XMLException {
     if(this.isTrue(string)) {
@@ -49,16 +124,60 @@ public class BooleanParser implements PrimitiveParser<Boolean> {
     } else if(this.isFalse(string)) {
       return false;
     }
-    throw new ParseException(node, "Could not parse '" + string + "' as a boolean");
+    throw ParseException.of(node, () -> "Could not parse '" + string + "' as a boolean");
   }
 
   // override to allow more true-like choices
   protected boolean isTrue(final @NonNull String string) {
-    return string.equals("true");
+    return this.matches(this.trueWords, string);
   }
 
   // override to allow more false-like choices
   protected boolean isFalse(final @NonNull String string) {
-    return string.equals("false");
+    return this.matches(this.falseWords, string);
+  }
+
+  private boolean matches(final @NonNull String @NonNull [] @NonNull [] words, final @NonNull String string) {
+    final int length = string.length();
+    if(length >= words.length) {
+      return false;
+    }
+    for(final String word : words[length]) {
+      // a mismatched first character exits immediately
+      if(word.regionMatches(this.ignoreCase, 0, string, 0, length)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * A pair of words for {@code true} and {@code false}.
+   */
+  public enum Vocabulary {
+    /**
+     * {@code true} and {@code false}.
+     */
+    TRUE_FALSE("true", "false"),
+    /**
+     * {@code yes} and {@code no}.
+     */
+    YES_NO("yes", "no"),
+    /**
+     * {@code on} and {@code off}.
+     */
+    ON_OFF("on", "off"),
+    /**
+     * {@code 1} and {@code 0}.
+     */
+    ONE_ZERO("1", "0");
+
+    private final String trueWord;
+    private final String falseWord;
+
+    Vocabulary(final @NonNull String trueWord, final @NonNull String falseWord) {
+      this.trueWord = trueWord;
+      this.falseWord = falseWord;
+    }
   }
 }
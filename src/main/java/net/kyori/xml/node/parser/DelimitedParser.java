@@ -0,0 +1,65 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A parser that produces a {@link List} of {@code T} from the delimited tokens of a {@link Node}'s
+ * {@link Node#value() value}.
+ *
+ * <p>Tokens are parsed in place, and other parsers can be adapted with {@link RangeParser#of(PrimitiveParser)}.
+ * Nested lists, such as {@code "1,2,3;4,5,6"}, are parsed by using a delimited parser as the element
+ * parser of another.</p>
+ *
+ * @param <T> the type
+ */
+public class DelimitedParser<T> implements PrimitiveParser<List<T>>, RangeParser<List<T>> {
+  private final Delimiter delimiter;
+  private final RangeParser<T> parser;
+
+  public DelimitedParser(final @NonNull Delimiter delimiter, final @NonNull RangeParser<T> parser) {
+    this.delimiter = delimiter;
+    this.parser = parser;
+  }
+
+  @Override
+  public @NonNull List<T> throwingParse(final @NonNull Node node, final @NonNull String string) throws XMLException {
+    return this.throwingParse(node, string, 0, string.length());
+  }
+
+  @Override
+  public @NonNull List<T> throwingParse(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    final List<T> values = new ArrayList<>(this.delimiter.count(string, start, end));
+    final Delimiter.Cursor cursor = this.delimiter.cursor(string, start, end);
+    while(cursor.next()) {
+      values.add(this.parser.throwingParse(node, string, cursor.start(), cursor.end()));
+    }
+    return values;
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Splits a range of characters into tokens, in place.
+ *
+ * <p>Tokens are separated by any of the separator characters, and have surrounding whitespace removed.
+ * A blank range has no tokens. When every separator is whitespace, runs of separators count as one;
+ * otherwise, empty tokens are kept, so that {@code "1,,2"} has an empty second token.</p>
+ */
+public final class Delimiter {
+  private static final Delimiter COMMA = new Delimiter(",");
+  private static final Delimiter WHITESPACE = new Delimiter(" \t\r\n");
+  private final String separators;
+  private final boolean skipEmpty;
+
+  private Delimiter(final @NonNull String separators) {
+    this.separators = separators;
+    this.skipEmpty = separators.chars().allMatch(Character::isWhitespace);
+  }
+
+  /**
+   * Gets a delimiter which splits on commas.
+   *
+   * @return a delimiter
+   */
+  public static @NonNull Delimiter comma() {
+    return COMMA;
+  }
+
+  /**
+   * Gets a delimiter which splits on whitespace.
+   *
+   * @return a delimiter
+   */
+  public static @NonNull Delimiter whitespace() {
+    return WHITESPACE;
+  }
+
+  /**
+   * Gets a delimiter which splits on any of {@code separators}.
+   *
+   * @param separators the separator characters
+   * @return a delimiter
+   */
+  public static @NonNull Delimiter of(final @NonNull String separators) {
+    if(separators.isEmpty()) {
+      throw new IllegalArgumentException("At least one separator is required");
+    }
+    return new Delimiter(separators);
+  }
+
+  /**
+   * Counts the tokens in a range of characters.
+   *
+   * @param string the characters
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return the number of tokens
+   */
+  public int count(final @NonNull CharSequence string, final int start, final int end) {
+    final Cursor cursor = this.cursor(string, start, end);
+    int count = 0;
+    while(cursor.next()) {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Creates a cursor over the tokens in a range of characters.
+   *
+   * @param string the characters
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return a cursor
+   */
+  public @NonNull Cursor cursor(final @NonNull CharSequence string, final int start, final int end) {
+    return new Cursor(string, start, end);
+  }
+
+  private boolean isSeparator(final char c) {
+    return this.separators.indexOf(c) != -1;
+  }
+
+  private static boolean isBlank(final @NonNull CharSequence string, final int start, final int end) {
+    for(int i = start; i < end; i++) {
+      if(!Character.isWhitespace(string.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * A cursor over tokens.
+   */
+  public final class Cursor {
+    private final CharSequence string;
+    private final int end;
+    // the start of the next token, or past the end when there are none left
+    private int position;
+    private int tokenStart;
+    private int tokenEnd;
+
+    /* package */ Cursor(final @NonNull CharSequence string, final int start, final int end) {
+      this.string = string;
+      this.end = end;
+      this.position = isBlank(string, start, end) ? end + 1 : start;
+    }
+
+    /**
+     * Moves to the next token.
+     *
+     * @return {@code true} if there is a next token
+     */
+    public boolean next() {
+      while(this.position <= this.end) {
+        int index = this.position;
+        while(index < this.end && !Delimiter.this.isSeparator(this.string.charAt(index))) {
+          index++;
+        }
+        int start = this.position;
+        int end = index;
+        while(start < end && Character.isWhitespace(this.string.charAt(start))) {
+          start++;
+        }
+        while(end > start && Character.isWhitespace(this.string.charAt(end - 1))) {
+          end--;
+        }
+        this.position = index + 1;
+        if(start < end || !Delimiter.this.skipEmpty) {
+          this.tokenStart = start;
+          this.tokenEnd = end;
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * Gets the start of the current token.
+     *
+     * @return the start index, inclusive
+     */
+    public int start() {
+      return this.tokenStart;
+    }
+
+    /**
+     * Gets the end of the current token.
+     *
+     * @return the end index, exclusive
+     */
+    public int end() {
+      return this.tokenEnd;
+    }
+  }
+}
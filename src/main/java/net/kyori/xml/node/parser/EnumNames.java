@@ -0,0 +1,144 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A name table for enum constants.
+ *
+ * <p>Canonical names are matched ignoring case, and treating {@code '_'} and {@code ' '} as equal.
+ * They are kept in an open-addressed table which is probed with a hash of the normalized input,
+ * so no normalized copy of the input is ever created. Aliases are matched exactly.</p>
+ */
+/* package */ final class EnumNames {
+  private static final int GOLDEN = 0x9e3779b9;
+  private final Map<String, Enum<?>> aliases;
+  private final int shift;
+  private final @Nullable String[] names;
+  private final int[] hashes;
+  private final @Nullable Enum<?>[] constants;
+
+  /* package */ EnumNames(final @NonNull Map<String, ? extends Enum<?>> aliases, final @NonNull List<? extends Enum<?>> canonical) {
+    final Map<String, Enum<?>> exact = new HashMap<>(aliases);
+    // keep the load factor at or below one half, so that probes stay short
+    final int capacity = Integer.highestOneBit(Math.max(2, canonical.size()) * 2 - 1) << 1;
+    this.shift = 32 - Integer.numberOfTrailingZeros(capacity);
+    this.names = new String[capacity];
+    this.hashes = new int[capacity];
+    this.constants = new Enum<?>[capacity];
+    for(final Enum<?> constant : canonical) {
+      if(!this.put(constant)) {
+        // names differing only in case can only be told apart exactly
+        exact.put(constant.name(), constant);
+      }
+    }
+    this.aliases = exact.isEmpty() ? Collections.emptyMap() : exact;
+  }
+
+  private boolean put(final @NonNull Enum<?> constant) {
+    final String name = constant.name();
+    final int hash = hash(name);
+    final int mask = this.names.length - 1;
+    int index = this.index(hash);
+    for(/* @Nullable */ String existing; (existing = this.names[index]) != null; index = (index + 1) & mask) {
+      if(this.hashes[index] == hash && equals(existing, name)) {
+        return false;
+      }
+    }
+    this.names[index] = name;
+    this.hashes[index] = hash;
+    this.constants[index] = constant;
+    return true;
+  }
+
+  /**
+   * Gets the constant matching {@code string}.
+   *
+   * @param string the string
+   * @return the constant, or {@code null}
+   */
+  /* package */ @Nullable Enum<?> get(final @NonNull String string) {
+    if(!this.aliases.isEmpty()) {
+      final /* @Nullable */ Enum<?> constant = this.aliases.get(string);
+      if(constant != null) {
+        return constant;
+      }
+    }
+    final int hash = hash(string);
+    final int mask = this.names.length - 1;
+    for(int index = this.index(hash); ; index = (index + 1) & mask) {
+      final /* @Nullable */ String name = this.names[index];
+      if(name == null) {
+        return null;
+      }
+      if(this.hashes[index] == hash && equals(name, string)) {
+        return this.constants[index];
+      }
+    }
+  }
+
+  private int index(final int hash) {
+    return (hash * GOLDEN) >>> this.shift;
+  }
+
+  private static int hash(final @NonNull String string) {
+    int hash = 0;
+    for(int i = 0, length = string.length(); i < length; i++) {
+      hash = 31 * hash + fold(string.charAt(i));
+    }
+    return hash;
+  }
+
+  private static boolean equals(final @NonNull String a, final @NonNull String b) {
+    final int length = a.length();
+    if(length != b.length()) {
+      return false;
+    }
+    for(int i = 0; i < length; i++) {
+      final char ca = a.charAt(i);
+      final char cb = b.charAt(i);
+      if(ca != cb && fold(ca) != fold(cb)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static char fold(final char c) {
+    if(c < 0x80) {
+      if(c >= 'A' && c <= 'Z') {
+        return (char) (c + ('a' - 'A'));
+      }
+      return c == ' ' ? '_' : c;
+    }
+    // same as String#equalsIgnoreCase
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+}
@@ -27,70 +27,190 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Locale;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
-import net.kyori.mu.Maybe;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import net.kyori.mu.reflect.Fields;
 import net.kyori.xml.XMLException;
 import net.kyori.xml.node.Node;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Parses a {@link Node} into an enum constant.
  */
 public class EnumParser<E extends Enum<E>> implements PrimitiveParser<E> {
+  // name tables are built once per enum type, and shared by every parser of that type
+  private static final ClassValue<EnumNames> NAMES = new ClassValue<EnumNames>() {
+    @Override
+    protected EnumNames computeValue(final Class<?> type) {
+      final /* @Nullable */ NameTable<?> table = generated(type);
+      return table != null ? names(table) : names(type);
+    }
+  };
+  private static final ClassValue<EnumParser<?>> PARSERS = new ClassValue<EnumParser<?>>() {
+    @Override
+    protected EnumParser<?> computeValue(final Class<?> type) {
+      return create(type);
+    }
+  };
   private final Class<E> type;
-  private final Map<String, E> map;
+  private final EnumNames names;
+
+  /**
+   * Gets a shared parser for an enum type.
+   *
+   * @param type the enum type
+   * @param <E> the enum type
+   * @return the parser
+   */
+  @SuppressWarnings("unchecked")
+  public static <E extends Enum<E>> @NonNull EnumParser<E> of(final @NonNull Class<E> type) {
+    return (EnumParser<E>) PARSERS.get(type);
+  }
 
+  /**
+   * Creates a parser which matches constant names ignoring case, and treating {@code '_'} and {@code ' '}
+   * as equal, or the exact {@link Names names} of annotated constants.
+   *
+   * <p>The names are taken from the {@link Precomputed generated} name table of the enum when one is
+   * registered, and otherwise by reflecting over its constants.</p>
+   *
+   * @param type the enum type
+   */
   public EnumParser(final @NonNull Class<E> type) {
-    this(type, names(type));
+    this(type, NAMES.get(type));
   }
 
+  /**
+   * Creates a parser which matches exactly the names in {@code map}.
+   *
+   * @param type the enum type
+   * @param map the names
+   */
   public EnumParser(final @NonNull Class<E> type, final @NonNull Map<String, E> map) {
+    this(type, new EnumNames(map, Collections.emptyList()));
+  }
+
+  /**
+   * Creates a parser from a name table {@link Precomputed generated at compile time}, without any reflection.
+   *
+   * @param table the name table
+   */
+  public EnumParser(final @NonNull NameTable<E> table) {
+    this(table.type(), names(table));
+  }
+
+  private EnumParser(final @NonNull Class<E> type, final @NonNull EnumNames names) {
     this.type = type;
-    this.map = map;
+    this.names = names;
   }
 
   @Override
   public @NonNull E throwingParse(final @NonNull Node node, final @NonNull String string) throws XMLException {
-    final /* @Nullable */ E constant = this.map.get(string);
+    final /* @Nullable */ Enum<?> constant = this.names.get(string);
     if(constant != null) {
-      return constant;
+      return this.type.cast(constant);
     }
-    throw new ParseException(node, "Could not find " + this.type.getName() + " with name '" + string + '\'');
+    throw ParseException.of(node, () -> "Could not find " + this.type.getName() + " with name '" + string + '\'');
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static @NonNull EnumParser<?> create(final @NonNull Class<?> type) {
+    return new EnumParser(type);
   }
 
-  private static <E extends Enum<E>> Map<String, E> names(final @NonNull Class<E> type) {
-    final E[] constants = type.getEnumConstants();
-    final Map<String, E> map = new HashMap<>(constants.length);
-    for(final E constant : constants) {
-      names(constant).forEach(name -> map.put(name, constant));
+  private static @NonNull EnumNames names(final @NonNull NameTable<?> table) {
+    return new EnumNames(table.aliases(), table.canonical());
+  }
+
+  // generated name tables are registered as services; a stale registration is skipped
+  @SuppressWarnings("rawtypes")
+  private static @Nullable NameTable<?> generated(final @NonNull Class<?> type) {
+    final Iterator<NameTable> tables = ServiceLoader.load(NameTable.class, type.getClassLoader()).iterator();
+    while(true) {
+      try {
+        if(!tables.hasNext()) {
+          return null;
+        }
+        final NameTable<?> table = tables.next();
+        if(table.type() == type) {
+          return table;
+        }
+      } catch(final ServiceConfigurationError e) {
+        // try the next table
+      }
     }
-    return map;
   }
 
-  private static @NonNull Stream<String> names(final @NonNull Enum<?> constant) {
-    return Maybe.maybe(Fields.field(constant).getAnnotation(Names.class))
-      .map(names -> Arrays.stream(names.value()))
-      .orGet(() -> defaultNames(constant));
+  private static @NonNull EnumNames names(final @NonNull Class<?> type) {
+    final Map<String, Enum<?>> aliases = new HashMap<>();
+    final List<Enum<?>> canonical = new ArrayList<>();
+    for(final Object constant : type.getEnumConstants()) {
+      final Enum<?> value = (Enum<?>) constant;
+      final /* @Nullable */ Names names = Fields.field(value).getAnnotation(Names.class);
+      if(names != null) {
+        for(final String name : names.value()) {
+          aliases.put(name, value);
+        }
+      } else {
+        canonical.add(value);
+      }
+    }
+    return new EnumNames(aliases, canonical);
   }
 
-  private static @NonNull Stream<String> defaultNames(final @NonNull Enum<?> constant) {
-    final String name = constant.name();
-    return Stream.of(
-      name,
-      name.replace('_', ' '),
-      name.toLowerCase(Locale.ENGLISH),
-      name.toLowerCase(Locale.ENGLISH).replace('_', ' ')
-    );
+  /**
+   * Marks an enum whose name table should be generated at compile time.
+   *
+   * <p>The table is generated by the {@code net.kyori.xml.processor.EnumNameTableProcessor} annotation
+   * processor, which also registers it as a {@link ServiceLoader service} of {@link NameTable}.
+   * {@link EnumParser#EnumParser(Class)} and {@link EnumParser#of(Class)} find registered tables through
+   * the class loader of the enum, so neither reflects over its constants.</p>
+   */
+  @Retention(RetentionPolicy.CLASS)
+  @Target(ElementType.TYPE)
+  public @interface Precomputed {
+  }
+
+  /**
+   * A name table for an enum.
+   *
+   * <p>Tables registered as {@link ServiceLoader services} are used by {@link EnumParser#of(Class)}.</p>
+   *
+   * @param <E> the enum type
+   */
+  public interface NameTable<E extends Enum<E>> {
+    /**
+     * Gets the enum type.
+     *
+     * @return the enum type
+     */
+    @NonNull Class<E> type();
+
+    /**
+     * Gets the constants matched by name, ignoring case and treating {@code '_'} and {@code ' '} as equal.
+     *
+     * @return the constants
+     */
+    @NonNull List<E> canonical();
+
+    /**
+     * Gets the names matched exactly.
+     *
+     * @return the names
+     */
+    @NonNull Map<String, E> aliases();
   }
 
   @Retention(RetentionPolicy.RUNTIME)
   @Target(ElementType.FIELD)
-  @interface Names {
+  public @interface Names {
     /**
      * Gets the names used for parsing.
      *
@@ -25,6 +25,7 @@ package net.kyori.xml.node.parser;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import net.kyori.mu.Maybe;
 import net.kyori.xml.XMLException;
 import net.kyori.xml.node.Node;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -33,9 +34,10 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  * A parser that produces a {@link List} of {@code T}.
  *
  * @param <T> the type
+ * @see ParallelListParser
  */
 public class ListParser<T> implements Parser<List<T>> {
-  private final Parser<T> parser;
+  protected final Parser<T> parser;
 
   public ListParser(final @NonNull Parser<T> parser) {
     this.parser = parser;
@@ -45,4 +47,19 @@ public class ListParser<T> implements Parser<List<T>> {
   public @NonNull List<T> throwingParse(final @NonNull Node node) throws XMLException {
     return node.nodes().map(this.parser::parse).collect(Collectors.toList());
   }
+
+  /**
+   * Parses each child node, collecting exceptions instead of throwing them.
+   *
+   * <p>Child nodes which could not be parsed are left out of the list. Exceptions from nested parsers
+   * which also collect exceptions are collected too.</p>
+   *
+   * @param node the node
+   * @param errors the collected exceptions
+   * @return the parsed values
+   */
+  @Override
+  public @NonNull Maybe<List<T>> parse(final @NonNull Node node, final @NonNull ParseErrors errors) {
+    return Maybe.just(this.parser.parse(node.nodes(), errors).collect(Collectors.toList()));
+  }
 }
@@ -0,0 +1,122 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A parser which remembers the values parsed from each string.
+ *
+ * <p>Repeated strings are parsed once, and then cost a single lookup. This is worthwhile for costly
+ * parsers, whose values repeat across many nodes - it is not for cheap parsers, such as the number
+ * parsers, which parse faster than they can be looked up.</p>
+ *
+ * <p>Values are shared between all nodes with the same string, so the wrapped parser must produce
+ * immutable values, and must not depend on anything but the string.</p>
+ *
+ * <p>Strings which could not be parsed are remembered too: the {@link ParseException} is thrown again
+ * for the new node, with the same message, but {@link ParseException#stackless(Node, String) without a
+ * stack trace}. Other exceptions are not remembered.</p>
+ *
+ * <p>At most {@code maximumSize} strings are remembered. Once full, the oldest string is forgotten for
+ * each new one. A memoizing parser is safe to use from many threads: remembered values are read
+ * without locking, and only new strings take a lock to be remembered.</p>
+ *
+ * @param <T> the type
+ * @see PrimitiveParser#memoized(int)
+ */
+public final class MemoizingParser<T> implements PrimitiveParser<T> {
+  private final PrimitiveParser<T> parser;
+  private final int maximumSize;
+  // values are either a T, or a Failure
+  private final ConcurrentMap<String, Object> values;
+  // the remembered strings, oldest first - also guards changes to values
+  private final Deque<String> order = new ArrayDeque<>();
+
+  public MemoizingParser(final @NonNull PrimitiveParser<T> parser, final int maximumSize) {
+    if(maximumSize < 1) {
+      throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+    }
+    this.parser = parser;
+    this.maximumSize = maximumSize;
+    this.values = new ConcurrentHashMap<>(Math.min(maximumSize, 64));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @NonNull T throwingParse(final @NonNull Node node, final @NonNull String string) throws XMLException {
+    final /* @Nullable */ Object cached = this.values.get(string);
+    if(cached instanceof Failure) {
+      throw ParseException.stackless(node, ((Failure) cached).message);
+    } else if(cached != null) {
+      return (T) cached;
+    }
+    final T value;
+    try {
+      value = this.parser.throwingParse(node, string);
+    } catch(final ParseException e) {
+      this.put(string, new Failure(e.getMessage()));
+      throw e;
+    }
+    this.put(string, value);
+    return value;
+  }
+
+  private void put(final @NonNull String string, final @NonNull Object value) {
+    synchronized(this.order) {
+      // another thread may have parsed the same string
+      if(this.values.containsKey(string)) {
+        return;
+      }
+      if(this.order.size() == this.maximumSize) {
+        this.values.remove(this.order.removeFirst());
+      }
+      this.values.put(string, value);
+      this.order.addLast(string);
+    }
+  }
+
+  /**
+   * Gets the number of strings currently remembered.
+   *
+   * @return the number of strings
+   */
+  public int size() {
+    return this.values.size();
+  }
+
+  private static final class Failure {
+    private final String message;
+
+    Failure(final String message) {
+      this.message = message;
+    }
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import net.kyori.mu.Maybe;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A parser that produces a {@link List} of {@code T}, parsing large lists in parallel.
+ *
+ * <p>Lists with at least {@link #threshold() threshold} child nodes are split by index into chunks,
+ * which are parsed on a {@link ForkJoinPool}. Smaller lists are parsed sequentially, as the cost of
+ * splitting them outweighs the gain. Either way, values are in the same order as the child nodes.</p>
+ *
+ * <p>Exceptions are reported deterministically: {@link #throwingParse(Node)} throws the exception for
+ * the first child node which could not be parsed, with the first exception from each later chunk
+ * {@link Throwable#addSuppressed(Throwable) suppressed}, and {@link #parse(Node, ParseErrors)} collects
+ * exceptions in the order of the child nodes. Unchecked exceptions thrown by the element parser are
+ * rethrown for the first child node that threw one, as they would be by {@link ListParser}.</p>
+ *
+ * <p>The element parser must be safe to use from many threads.</p>
+ *
+ * @param <T> the type
+ */
+public class ParallelListParser<T> extends ListParser<T> {
+  /**
+   * The default number of child nodes at which parsing becomes parallel.
+   */
+  public static final int DEFAULT_THRESHOLD = 1024;
+  private static final int MIN_CHUNK_SIZE = 256;
+  // chunks per thread, so that uneven chunks can be balanced by work stealing
+  private static final int CHUNKS_PER_THREAD = 4;
+  private final int threshold;
+  private final ForkJoinPool pool;
+
+  public ParallelListParser(final @NonNull Parser<T> parser) {
+    this(parser, DEFAULT_THRESHOLD);
+  }
+
+  public ParallelListParser(final @NonNull Parser<T> parser, final int threshold) {
+    this(parser, threshold, ForkJoinPool.commonPool());
+  }
+
+  public ParallelListParser(final @NonNull Parser<T> parser, final int threshold, final @NonNull ForkJoinPool pool) {
+    super(parser);
+    if(threshold < 1) {
+      throw new IllegalArgumentException("threshold must be positive: " + threshold);
+    }
+    this.threshold = threshold;
+    this.pool = pool;
+  }
+
+  /**
+   * Gets the number of child nodes at which parsing becomes parallel.
+   *
+   * @return the threshold
+   */
+  public int threshold() {
+    return this.threshold;
+  }
+
+  @Override
+  public @NonNull List<T> throwingParse(final @NonNull Node node) throws XMLException {
+    final Node[] nodes = node.nodes().toArray(Node[]::new);
+    if(nodes.length < this.threshold) {
+      final List<T> values = new ArrayList<>(nodes.length);
+      for(final Node child : nodes) {
+        values.add(this.parser.throwingParse(child));
+      }
+      return values;
+    }
+    final Chunk<T>[] chunks = this.invoke(nodes, null);
+    /* @Nullable */ Throwable failure = null;
+    for(final Chunk<T> chunk : chunks) {
+      if(chunk.failure != null) {
+        if(failure == null) {
+          failure = chunk.failure;
+        } else {
+          failure.addSuppressed(chunk.failure);
+        }
+      }
+    }
+    if(failure instanceof XMLException) {
+      throw (XMLException) failure;
+    } else if(failure != null) {
+      throw unchecked(failure);
+    }
+    return merge(chunks, nodes.length);
+  }
+
+  @Override
+  public @NonNull Maybe<List<T>> parse(final @NonNull Node node, final @NonNull ParseErrors errors) {
+    final Node[] nodes = node.nodes().toArray(Node[]::new);
+    if(nodes.length < this.threshold) {
+      final List<T> values = new ArrayList<>(nodes.length);
+      for(final Node child : nodes) {
+        final Maybe<T> value = this.parser.parse(child, errors);
+        if(value.isJust()) {
+          values.add(value.orThrow());
+        }
+      }
+      return Maybe.just(values);
+    }
+    final Chunk<T>[] chunks = this.invoke(nodes, errors);
+    for(final Chunk<T> chunk : chunks) {
+      // exceptions which are not collected stop parsing, as they would sequentially
+      if(chunk.failure != null) {
+        throw unchecked(chunk.failure);
+      }
+      for(final XMLException exception : chunk.errors) {
+        errors.add(exception);
+      }
+    }
+    return Maybe.just(merge(chunks, nodes.length));
+  }
+
+  @SuppressWarnings("unchecked")
+  private @NonNull Chunk<T> @NonNull [] invoke(final @NonNull Node @NonNull [] nodes, final @Nullable ParseErrors errors) {
+    final int size = Math.max(MIN_CHUNK_SIZE, ceilDiv(nodes.length, this.pool.getParallelism() * CHUNKS_PER_THREAD));
+    final Chunk<T>[] chunks = (Chunk<T>[]) new Chunk<?>[ceilDiv(nodes.length, size)];
+    for(int i = 0; i < chunks.length; i++) {
+      chunks[i] = new Chunk<>(this.parser, nodes, i * size, Math.min(nodes.length, (i + 1) * size), errors != null);
+    }
+    if(ForkJoinTask.getPool() == this.pool) {
+      // already running in the pool, so the chunks are forked from this task
+      ForkJoinTask.invokeAll(chunks);
+    } else {
+      this.pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(chunks)));
+    }
+    return chunks;
+  }
+
+  private static @NonNull RuntimeException unchecked(final @NonNull Throwable throwable) {
+    if(throwable instanceof Error) {
+      throw (Error) throwable;
+    }
+    return (RuntimeException) throwable;
+  }
+
+  private static <T> @NonNull List<T> merge(final @NonNull Chunk<T> @NonNull [] chunks, final int size) {
+    final List<T> values = new ArrayList<>(size);
+    for(final Chunk<T> chunk : chunks) {
+      values.addAll(Arrays.asList(chunk.values).subList(0, chunk.size));
+    }
+    return values;
+  }
+
+  private static int ceilDiv(final int a, final int b) {
+    return (a + b - 1) / b;
+  }
+
+  private static final class Chunk<T> extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final Parser<T> parser;
+    private final Node[] nodes;
+    private final int start;
+    private final int end;
+    // only used when collecting exceptions
+    private final @Nullable ParseErrors errors;
+    // written by the parsing thread, and read after the task has been joined
+    private final T[] values;
+    private int size;
+    // the first exception which stopped this chunk - an unchecked exception, or an XMLException when not collecting
+    private @Nullable Throwable failure;
+
+    @SuppressWarnings("unchecked")
+    Chunk(final @NonNull Parser<T> parser, final @NonNull Node @NonNull [] nodes, final int start, final int end, final boolean collect) {
+      this.parser = parser;
+      this.nodes = nodes;
+      this.start = start;
+      this.end = end;
+      this.errors = collect ? new ParseErrors() : null;
+      this.values = (T[]) new Object[end - start];
+    }
+
+    @Override
+    protected void compute() {
+      // later nodes in this chunk cannot change the outcome once an exception stops it
+      try {
+        for(int i = this.start; i < this.end; i++) {
+          if(this.errors != null) {
+            final Maybe<T> value = this.parser.parse(this.nodes[i], this.errors);
+            if(value.isJust()) {
+              this.values[this.size++] = value.orThrow();
+            }
+          } else {
+            final T value = this.parser.throwingParse(this.nodes[i]);
+            this.values[this.size++] = value;
+          }
+        }
+      } catch(final XMLException | RuntimeException | Error e) {
+        this.failure = e;
+      }
+    }
+  }
+}
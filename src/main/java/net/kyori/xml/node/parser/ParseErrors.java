@@ -0,0 +1,124 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import net.kyori.xml.XMLException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Collects the exceptions encountered while parsing, so that parsing can continue past them.
+ *
+ * <p>Each exception keeps the {@link XMLException#node() node} it was thrown for.</p>
+ *
+ * <p>Exceptions may be added concurrently.</p>
+ *
+ * @see Parser#parse(net.kyori.xml.node.Node, ParseErrors)
+ */
+public final class ParseErrors implements Iterable<XMLException> {
+  private final List<XMLException> exceptions = new ArrayList<>();
+
+  /**
+   * Adds an exception.
+   *
+   * @param exception the exception
+   */
+  public void add(final @NonNull XMLException exception) {
+    synchronized(this.exceptions) {
+      this.exceptions.add(exception);
+    }
+  }
+
+  /**
+   * Gets the exceptions, in the order they were added.
+   *
+   * @return the exceptions
+   */
+  public @NonNull List<XMLException> exceptions() {
+    synchronized(this.exceptions) {
+      return Collections.unmodifiableList(new ArrayList<>(this.exceptions));
+    }
+  }
+
+  /**
+   * Checks if no exceptions have been added.
+   *
+   * @return {@code true} if no exceptions have been added
+   */
+  public boolean isEmpty() {
+    synchronized(this.exceptions) {
+      return this.exceptions.isEmpty();
+    }
+  }
+
+  /**
+   * Gets the number of exceptions added.
+   *
+   * @return the number of exceptions
+   */
+  public int size() {
+    synchronized(this.exceptions) {
+      return this.exceptions.size();
+    }
+  }
+
+  /**
+   * Throws the first exception, with all others {@link Throwable#addSuppressed(Throwable) suppressed}, if any were added.
+   *
+   * <p>Calling this again suppresses only the exceptions added since.</p>
+   *
+   * @throws XMLException the first exception
+   */
+  public void throwIfAny() throws XMLException {
+    final List<XMLException> exceptions = this.exceptions();
+    if(!exceptions.isEmpty()) {
+      final XMLException first = exceptions.get(0);
+      final Set<Throwable> suppressed = Collections.newSetFromMap(new IdentityHashMap<>());
+      suppressed.addAll(Arrays.asList(first.getSuppressed()));
+      for(int i = 1, size = exceptions.size(); i < size; i++) {
+        final XMLException exception = exceptions.get(i);
+        if(suppressed.add(exception)) {
+          first.addSuppressed(exception);
+        }
+      }
+      throw first;
+    }
+  }
+
+  @Override
+  public @NonNull Iterator<XMLException> iterator() {
+    return this.exceptions().iterator();
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return "ParseErrors{" + this.exceptions() + '}';
+  }
+}
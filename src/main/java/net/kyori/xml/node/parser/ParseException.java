@@ -23,14 +23,23 @@
  */
 package net.kyori.xml.node.parser;
 
+import java.util.function.Supplier;
 import net.kyori.xml.XMLException;
 import net.kyori.xml.node.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * An exception thrown during parsing.
  */
 public class ParseException extends XMLException {
+  /*
+   * Whether exceptions created by the built-in parsers capture a stack trace. Workloads that try
+   * several parsers on the same node, or validate large batches, can set the
+   * "net.kyori.xml.parseExceptionStackTraces" system property to "false" to skip the capture.
+   */
+  private static final boolean STACK_TRACES = !"false".equalsIgnoreCase(System.getProperty("net.kyori.xml.parseExceptionStackTraces"));
+
   public ParseException(final @Nullable Node node, final String message) {
     super(node, message);
   }
@@ -38,4 +47,44 @@ public class ParseException extends XMLException {
   public ParseException(final @Nullable Node node, final String message, final @Nullable Throwable cause) {
     super(node, message, cause);
   }
+
+  protected ParseException(final @Nullable Node node, final @NonNull Supplier<String> message, final @Nullable Throwable cause, final boolean writableStackTrace) {
+    super(node, message, cause, writableStackTrace);
+  }
+
+  /**
+   * Creates a parse exception whose message is only computed when first requested.
+   *
+   * <p>A stack trace is captured unless the {@code net.kyori.xml.parseExceptionStackTraces} system
+   * property is {@code false}.</p>
+   *
+   * @param node the node
+   * @param message the message supplier
+   * @return a parse exception
+   */
+  public static @NonNull ParseException of(final @Nullable Node node, final @NonNull Supplier<String> message) {
+    return new ParseException(node, message, null, STACK_TRACES);
+  }
+
+  /**
+   * Creates a parse exception without a stack trace.
+   *
+   * @param node the node
+   * @param message the message
+   * @return a parse exception
+   */
+  public static @NonNull ParseException stackless(final @Nullable Node node, final @NonNull String message) {
+    return stackless(node, () -> message);
+  }
+
+  /**
+   * Creates a parse exception without a stack trace, whose message is only computed when first requested.
+   *
+   * @param node the node
+   * @param message the message supplier
+   * @return a parse exception
+   */
+  public static @NonNull ParseException stackless(final @Nullable Node node, final @NonNull Supplier<String> message) {
+    return new ParseException(node, message, null, false);
+  }
 }
@@ -88,6 +88,47 @@ public interface Parser<T> extends Function<Node, T> {
     return ThrowingSupplier.get(() -> this.throwingParse(node));
   }
 
+  /**
+   * Parses a stream of {@link Node} into a stream of {@code T}, collecting exceptions instead of throwing them.
+   *
+   * <p>Nodes which could not be parsed are skipped.</p>
+   *
+   * @param stream the node stream
+   * @param errors the collected exceptions
+   * @return the parsed values
+   */
+  default @NonNull Stream<T> parse(final @NonNull Stream<Node> stream, final @NonNull ParseErrors errors) {
+    return stream.flatMap(node -> this.parse(node, errors).stream());
+  }
+
+  /**
+   * Parses a {@link Node} into {@code T}, collecting exceptions instead of throwing them.
+   *
+   * @param node the node
+   * @param errors the collected exceptions
+   * @return the parsed value, or {@link Maybe#nothing()} if an exception occurred
+   */
+  default @NonNull Maybe<T> parse(final @NonNull Node node, final @NonNull ParseErrors errors) {
+    try {
+      return Maybe.just(this.throwingParse(node));
+    } catch(final XMLException e) {
+      errors.add(e);
+      return Maybe.nothing();
+    }
+  }
+
+  /**
+   * Parses a {@link Node} into {@code T}, collecting exceptions instead of throwing them.
+   *
+   * @param node the node
+   * @param errors the collected exceptions
+   * @param defaultValue the value to use if an exception occurred
+   * @return the parsed value, or {@code defaultValue} if an exception occurred
+   */
+  default @NonNull T parse(final @NonNull Node node, final @NonNull ParseErrors errors, final @NonNull T defaultValue) {
+    return this.parse(node, errors).orDefault(defaultValue);
+  }
+
   /**
    * Parses a {@link Node} into {@code T}.
    *
@@ -0,0 +1,122 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.lang.reflect.Type;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Resolves {@link Parser}s by type.
+ *
+ * <p>Besides registered types, a registry resolves:</p>
+ * <ul>
+ *   <li>{@link String}, {@code boolean}, and the primitive number types and their boxes,</li>
+ *   <li>enums, with {@link EnumParser#of(Class)},</li>
+ *   <li>{@code List<T>} and arrays, from the {@link net.kyori.xml.node.Node#nodes() child nodes} - {@code int[]},
+ *   {@code long[]} and {@code double[]} are parsed without boxing,</li>
+ *   <li>{@code Stream<T>}, parsed lazily from the child nodes,</li>
+ *   <li>{@code Optional<T>}, which is empty for a node with an empty value,</li>
+ *   <li>{@link net.kyori.xml.node.parser.binding.Bindable bindable} types, with a
+ *   {@link net.kyori.xml.node.parser.binding.BindingParser}.</li>
+ * </ul>
+ *
+ * <p>Each parser is resolved once, and then shared. A registry is safe to use from many threads.</p>
+ */
+public interface ParserRegistry {
+  /**
+   * Creates a new builder.
+   *
+   * @return a new builder
+   */
+  static @NonNull Builder builder() {
+    return new ParserRegistryBuilderImpl();
+  }
+
+  /**
+   * Gets a parser for {@code type}.
+   *
+   * @param type the type
+   * @param <T> the type
+   * @return the parser
+   * @throws IllegalArgumentException if no parser can be resolved for {@code type}
+   */
+  @SuppressWarnings("unchecked")
+  default <T> @NonNull Parser<T> parser(final @NonNull Class<T> type) {
+    return (Parser<T>) this.parser((Type) type);
+  }
+
+  /**
+   * Gets a parser for {@code type}.
+   *
+   * @param type the type
+   * @param <T> the type
+   * @return the parser
+   * @throws IllegalArgumentException if no parser can be resolved for {@code type}
+   */
+  @SuppressWarnings("unchecked")
+  default <T> @NonNull Parser<T> parser(final @NonNull TypeToken<T> type) {
+    return (Parser<T>) this.parser(type.type());
+  }
+
+  /**
+   * Gets a parser for {@code type}.
+   *
+   * @param type the type
+   * @return the parser
+   * @throws IllegalArgumentException if no parser can be resolved for {@code type}
+   */
+  @NonNull Parser<?> parser(final @NonNull Type type);
+
+  /**
+   * A parser registry builder.
+   */
+  interface Builder {
+    /**
+     * Registers a parser, replacing any parser which would otherwise be resolved for {@code type}.
+     *
+     * @param type the type
+     * @param parser the parser
+     * @param <T> the type
+     * @return this builder
+     */
+    <T> @NonNull Builder register(final @NonNull Class<T> type, final @NonNull Parser<T> parser);
+
+    /**
+     * Registers a parser, replacing any parser which would otherwise be resolved for {@code type}.
+     *
+     * @param type the type
+     * @param parser the parser
+     * @param <T> the type
+     * @return this builder
+     */
+    <T> @NonNull Builder register(final @NonNull TypeToken<T> type, final @NonNull Parser<T> parser);
+
+    /**
+     * Builds a parser registry.
+     *
+     * @return the parser registry
+     */
+    @NonNull ParserRegistry build();
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import static java.util.Objects.requireNonNull;
+
+final class ParserRegistryBuilderImpl implements ParserRegistry.Builder {
+  final Map<Type, Parser<?>> parsers = new HashMap<>();
+
+  @Override
+  public <T> ParserRegistry.@NonNull Builder register(final @NonNull Class<T> type, final @NonNull Parser<T> parser) {
+    this.parsers.put(requireNonNull(type, "type"), requireNonNull(parser, "parser"));
+    return this;
+  }
+
+  @Override
+  public <T> ParserRegistry.@NonNull Builder register(final @NonNull TypeToken<T> type, final @NonNull Parser<T> parser) {
+    this.parsers.put(requireNonNull(type, "type").type(), requireNonNull(parser, "parser"));
+    return this;
+  }
+
+  @Override
+  public @NonNull ParserRegistry build() {
+    return new ParserRegistryImpl(this.parsers);
+  }
+}
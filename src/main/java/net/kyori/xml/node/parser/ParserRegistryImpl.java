@@ -0,0 +1,168 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+import net.kyori.xml.node.parser.binding.Bindable;
+import net.kyori.xml.node.parser.binding.BindingParser;
+import net.kyori.xml.node.parser.number.ByteParser;
+import net.kyori.xml.node.parser.number.DoubleListParser;
+import net.kyori.xml.node.parser.number.DoubleNodeParser;
+import net.kyori.xml.node.parser.number.DoubleParser;
+import net.kyori.xml.node.parser.number.FloatParser;
+import net.kyori.xml.node.parser.number.IntListParser;
+import net.kyori.xml.node.parser.number.IntNodeParser;
+import net.kyori.xml.node.parser.number.IntParser;
+import net.kyori.xml.node.parser.number.LongListParser;
+import net.kyori.xml.node.parser.number.LongNodeParser;
+import net.kyori.xml.node.parser.number.LongParser;
+import net.kyori.xml.node.parser.number.ShortParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+final class ParserRegistryImpl implements ParserRegistry {
+  private final ConcurrentMap<Type, Parser<?>> parsers;
+
+  ParserRegistryImpl(final @NonNull Map<Type, Parser<?>> parsers) {
+    this.parsers = new ConcurrentHashMap<>(defaults());
+    this.parsers.putAll(parsers);
+  }
+
+  private static @NonNull Map<Type, Parser<?>> defaults() {
+    final Map<Type, Parser<?>> parsers = new HashMap<>();
+    parsers.put(String.class, StringParser.get());
+    parsers.put(boolean.class, BooleanParser.get());
+    parsers.put(Boolean.class, BooleanParser.get());
+    parsers.put(byte.class, ByteParser.get());
+    parsers.put(Byte.class, ByteParser.get());
+    parsers.put(short.class, ShortParser.get());
+    parsers.put(Short.class, ShortParser.get());
+    parsers.put(int.class, IntParser.get());
+    parsers.put(Integer.class, IntParser.get());
+    parsers.put(long.class, LongParser.get());
+    parsers.put(Long.class, LongParser.get());
+    parsers.put(float.class, FloatParser.get());
+    parsers.put(Float.class, FloatParser.get());
+    parsers.put(double.class, DoubleParser.get());
+    parsers.put(Double.class, DoubleParser.get());
+    return parsers;
+  }
+
+  @Override
+  public @NonNull Parser<?> parser(final @NonNull Type type) {
+    final /* @Nullable */ Parser<?> parser = this.parsers.get(type);
+    if(parser != null) {
+      return parser;
+    }
+    // resolved outside of the map, as composites resolve their components through it
+    final Parser<?> resolved = this.resolve(type);
+    final /* @Nullable */ Parser<?> existing = this.parsers.putIfAbsent(type, resolved);
+    return existing != null ? existing : resolved;
+  }
+
+  private @NonNull Parser<?> resolve(final @NonNull Type type) {
+    if(type instanceof Class<?>) {
+      final Class<?> klass = (Class<?>) type;
+      if(klass.isEnum()) {
+        return enumParser(klass);
+      } else if(klass.isAnnotationPresent(Bindable.class)) {
+        return BindingParser.compile(klass, this);
+      } else if(klass.isArray()) {
+        return this.array(klass.getComponentType());
+      }
+    } else if(type instanceof ParameterizedType) {
+      final ParameterizedType parameterized = (ParameterizedType) type;
+      final Type raw = parameterized.getRawType();
+      if(raw == List.class) {
+        return new ListParser<>(this.parser(parameterized.getActualTypeArguments()[0]));
+      } else if(raw == Stream.class) {
+        return new StreamParser<>(this.parser(parameterized.getActualTypeArguments()[0]));
+      } else if(raw == Optional.class) {
+        return optional(this.parser(parameterized.getActualTypeArguments()[0]));
+      }
+    } else if(type instanceof GenericArrayType) {
+      return this.array(((GenericArrayType) type).getGenericComponentType());
+    } else if(type instanceof WildcardType) {
+      final WildcardType wildcard = (WildcardType) type;
+      if(wildcard.getLowerBounds().length == 0) {
+        return this.parser(wildcard.getUpperBounds()[0]);
+      }
+    }
+    throw new IllegalArgumentException("Could not resolve a parser for " + type.getTypeName());
+  }
+
+  private @NonNull Parser<?> array(final @NonNull Type component) {
+    final Parser<?> parser = this.parser(component);
+    // primitive arrays skip boxing, unless a parser which cannot do so has been registered
+    if(component == int.class && parser instanceof IntNodeParser) {
+      return new IntListParser((IntNodeParser) parser);
+    } else if(component == long.class && parser instanceof LongNodeParser) {
+      return new LongListParser((LongNodeParser) parser);
+    } else if(component == double.class && parser instanceof DoubleNodeParser) {
+      return new DoubleListParser((DoubleNodeParser) parser);
+    }
+    final Class<?> type = raw(component);
+    final ListParser<?> list = new ListParser<>(parser);
+    return node -> {
+      final List<?> values = list.throwingParse(node);
+      final Object array = Array.newInstance(type, values.size());
+      for(int i = 0, size = values.size(); i < size; i++) {
+        Array.set(array, i, values.get(i));
+      }
+      return array;
+    };
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static @NonNull Parser<?> enumParser(final @NonNull Class<?> type) {
+    return EnumParser.of((Class) type);
+  }
+
+  private static <T> @NonNull Parser<Optional<T>> optional(final @NonNull Parser<T> parser) {
+    return node -> node.value().isEmpty() ? Optional.empty() : Optional.of(parser.throwingParse(node));
+  }
+
+  private static @NonNull Class<?> raw(final @NonNull Type type) {
+    if(type instanceof Class<?>) {
+      return (Class<?>) type;
+    } else if(type instanceof ParameterizedType) {
+      return raw(((ParameterizedType) type).getRawType());
+    } else if(type instanceof GenericArrayType) {
+      return Array.newInstance(raw(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+    } else if(type instanceof WildcardType) {
+      return raw(((WildcardType) type).getUpperBounds()[0]);
+    }
+    return Object.class;
+  }
+}
@@ -42,4 +42,15 @@ public interface PrimitiveParser<T> extends Parser<T> {
    * @throws XMLException if an exception occurred while parsing
    */
   @NonNull T throwingParse(final @NonNull Node node, final @NonNull String string) throws XMLException;
+
+  /**
+   * Creates a parser which remembers the values parsed by this parser, for up to {@code maximumSize} strings.
+   *
+   * @param maximumSize the maximum number of strings to remember
+   * @return a memoizing parser
+   * @see MemoizingParser
+   */
+  default @NonNull PrimitiveParser<T> memoized(final int maximumSize) {
+    return new MemoizingParser<>(this, maximumSize);
+  }
 }
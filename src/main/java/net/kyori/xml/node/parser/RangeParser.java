@@ -0,0 +1,66 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Parses a range of characters into {@code T}.
+ *
+ * <p>This allows values to be parsed in place, without first being copied out of a larger string.</p>
+ *
+ * @param <T> the parsed type
+ */
+@FunctionalInterface
+public interface RangeParser<T> {
+  /**
+   * Creates a range parser which copies the range, and passes it to {@code parser}.
+   *
+   * @param parser the parser
+   * @param <T> the parsed type
+   * @return a range parser
+   */
+  static <T> @NonNull RangeParser<T> of(final @NonNull PrimitiveParser<T> parser) {
+    if(parser instanceof RangeParser<?>) {
+      @SuppressWarnings("unchecked")
+      final RangeParser<T> range = (RangeParser<T>) parser;
+      return range;
+    }
+    return (node, string, start, end) -> parser.throwingParse(node, string.subSequence(start, end).toString());
+  }
+
+  /**
+   * Parses a range of characters into {@code T}.
+   *
+   * @param node the node the characters are from
+   * @param string the characters
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return the parsed value
+   * @throws XMLException if an exception occurred while parsing
+   */
+  @NonNull T throwingParse(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException;
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.stream.Stream;
+import net.kyori.mu.Maybe;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A parser that produces a lazy {@link Stream} of {@code T}.
+ *
+ * <p>Unlike {@link ListParser}, no list is created: each child node is parsed as its value is pulled
+ * from the stream, so a stream which is short-circuited, by {@link Stream#findFirst()} or
+ * {@link Stream#limit(long)} for example, never parses the remaining nodes.</p>
+ *
+ * <p>As parsing is deferred, an exception for a child node is thrown by the terminal operation of the
+ * stream, rather than by {@link #throwingParse(Node)}.</p>
+ *
+ * @param <T> the type
+ */
+public class StreamParser<T> implements Parser<Stream<T>> {
+  private final Parser<T> parser;
+
+  public StreamParser(final @NonNull Parser<T> parser) {
+    this.parser = parser;
+  }
+
+  @Override
+  public @NonNull Stream<T> throwingParse(final @NonNull Node node) throws XMLException {
+    return this.parser.parse(node.nodes());
+  }
+
+  /**
+   * Creates a lazy stream of parsed child nodes, collecting exceptions instead of throwing them.
+   *
+   * <p>Child nodes which could not be parsed are left out of the stream. Exceptions are collected as
+   * the stream is consumed.</p>
+   *
+   * @param node the node
+   * @param errors the collected exceptions
+   * @return the parsed values
+   */
+  @Override
+  public @NonNull Maybe<Stream<T>> parse(final @NonNull Node node, final @NonNull ParseErrors errors) {
+    return Maybe.just(this.parser.parse(node.nodes(), errors));
+  }
+}
@@ -29,7 +29,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 /**
  * Parses a {@link Node} into a {@link String string}.
  */
-public class StringParser implements PrimitiveParser<String> {
+public class StringParser implements PrimitiveParser<String>, RangeParser<String> {
   private static final StringParser INSTANCE = new StringParser();
 
   /**
@@ -45,4 +45,9 @@ public class StringParser implements PrimitiveParser<String> {
   public @NonNull String throwingParse(final @NonNull Node node, final @NonNull String string) {
     return string;
   }
+
+  @Override
+  public @NonNull String throwingParse(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) {
+    return string.subSequence(start, end).toString();
+  }
 }
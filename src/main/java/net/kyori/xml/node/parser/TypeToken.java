@@ -0,0 +1,75 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Captures a generic type, such as {@code List<Integer>}, which cannot be expressed as a {@link Class}.
+ *
+ * <p>Create one as an anonymous subclass: {@code new TypeToken<List<Integer>>() {}}.</p>
+ *
+ * @param <T> the type
+ */
+public abstract class TypeToken<T> {
+  private final Type type;
+
+  protected TypeToken() {
+    final Type superclass = this.getClass().getGenericSuperclass();
+    if(!(superclass instanceof ParameterizedType)) {
+      throw new IllegalStateException("TypeToken must be created with a type argument");
+    }
+    this.type = ((ParameterizedType) superclass).getActualTypeArguments()[0];
+  }
+
+  /**
+   * Gets the captured type.
+   *
+   * @return the type
+   */
+  public final @NonNull Type type() {
+    return this.type;
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if(this == other) return true;
+    if(!(other instanceof TypeToken<?>)) return false;
+    return this.type.equals(((TypeToken<?>) other).type);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(this.type);
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return "TypeToken{" + this.type.getTypeName() + '}';
+  }
+}
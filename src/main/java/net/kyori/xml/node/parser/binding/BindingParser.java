@@ -0,0 +1,321 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser.binding;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.parser.ParseException;
+import net.kyori.xml.node.parser.Parser;
+import net.kyori.xml.node.parser.ParserRegistry;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A parser for a {@link Bindable bindable} type.
+ *
+ * <p>The binding plan is compiled once: annotated members are found, and fields and constructors are
+ * turned into {@link MethodHandle}s. Each parse then reads the attributes and child elements of a node
+ * in a single pass, with no further reflection.</p>
+ *
+ * @param <T> the bound type
+ */
+public final class BindingParser<T> implements Parser<T> {
+  private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+  private final Class<T> type;
+  private final ParserRegistry registry;
+  private final Slot[] slots;
+  private final Map<String, Slot> attributes = new HashMap<>();
+  private final Map<String, Slot> children = new HashMap<>();
+  // (Object[]) -> Object when bound through a constructor, otherwise () -> Object
+  private final MethodHandle constructor;
+  private final boolean viaConstructor;
+  // resolved on first use, as a type may contain itself
+  private volatile @Nullable Parser<?>[] parsers;
+
+  private BindingParser(final @NonNull Class<T> type, final @NonNull ParserRegistry registry) {
+    this.type = type;
+    this.registry = registry;
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    final List<Slot> slots = new ArrayList<>();
+    final /* @Nullable */ Constructor<?> bound = boundConstructor(type);
+    try {
+      if(bound != null) {
+        for(final Parameter parameter : bound.getParameters()) {
+          slots.add(slot(parameter, parameter.isNamePresent() ? parameter.getName() : null, parameter.getParameterizedType(), null));
+        }
+        bound.setAccessible(true);
+        this.constructor = lookup.unreflectConstructor(bound)
+          .asSpreader(Object[].class, slots.size())
+          .asType(MethodType.methodType(Object.class, Object[].class));
+        this.viaConstructor = true;
+      } else {
+        for(Class<?> klass = type; klass != null && klass != Object.class; klass = klass.getSuperclass()) {
+          for(final Field field : klass.getDeclaredFields()) {
+            if(isBound(field)) {
+              if(Modifier.isFinal(field.getModifiers()) || Modifier.isStatic(field.getModifiers())) {
+                throw new IllegalArgumentException("Bound field " + field + " must not be final or static");
+              }
+              field.setAccessible(true);
+              slots.add(slot(field, field.getName(), field.getGenericType(), lookup.unreflectSetter(field).asType(SETTER)));
+            }
+          }
+        }
+        final Constructor<T> constructor = type.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        this.constructor = lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+        this.viaConstructor = false;
+      }
+    } catch(final NoSuchMethodException | IllegalAccessException e) {
+      throw new IllegalArgumentException("Could not bind " + type.getName(), e);
+    }
+    this.slots = slots.toArray(new Slot[0]);
+    for(int i = 0; i < this.slots.length; i++) {
+      final Slot slot = this.slots[i];
+      slot.index = i;
+      final Map<String, Slot> names = slot.kind == Kind.ATTRIBUTE ? this.attributes : this.children;
+      if(names.put(slot.name, slot) != null) {
+        throw new IllegalArgumentException("Duplicate binding for '" + slot.name + "' in " + type.getName());
+      }
+    }
+  }
+
+  /**
+   * Compiles a parser for a {@link Bindable bindable} type.
+   *
+   * <p>Prefer {@link ParserRegistry#parser(Class)}, which compiles the parser once, and then shares it.</p>
+   *
+   * @param type the type
+   * @param registry the registry used to parse attributes and child elements
+   * @param <T> the type
+   * @return a parser
+   * @throws IllegalArgumentException if {@code type} cannot be bound
+   */
+  public static <T> @NonNull BindingParser<T> compile(final @NonNull Class<T> type, final @NonNull ParserRegistry registry) {
+    if(!type.isAnnotationPresent(Bindable.class)) {
+      throw new IllegalArgumentException(type.getName() + " is not @" + Bindable.class.getSimpleName());
+    }
+    return new BindingParser<>(type, registry);
+  }
+
+  @Override
+  public @NonNull T throwingParse(final @NonNull Node node) throws XMLException {
+    final Parser<?>[] parsers = this.parsers();
+    final Object[] found = new Object[this.slots.length];
+    for(final Iterator<Node> it = node.attributes().iterator(); it.hasNext(); ) {
+      final Node attribute = it.next();
+      final /* @Nullable */ Slot slot = this.attributes.get(attribute.name());
+      if(slot != null) {
+        found[slot.index] = attribute;
+      }
+    }
+    for(final Iterator<Node> it = node.elements().iterator(); it.hasNext(); ) {
+      final Node child = it.next();
+      final /* @Nullable */ Slot slot = this.children.get(child.name());
+      if(slot != null) {
+        if(slot.kind == Kind.CHILDREN) {
+          if(found[slot.index] == null) {
+            found[slot.index] = new ArrayList<Node>();
+          }
+          @SuppressWarnings("unchecked")
+          final List<Node> nodes = (List<Node>) found[slot.index];
+          nodes.add(child);
+        } else if(found[slot.index] != null) {
+          throw ParseException.of(child, () -> "Expected a single '" + slot.name + "' element");
+        } else {
+          found[slot.index] = child;
+        }
+      }
+    }
+
+    final Object[] values = new Object[this.slots.length];
+    for(final Slot slot : this.slots) {
+      final Object value = found[slot.index];
+      if(slot.kind == Kind.CHILDREN) {
+        values[slot.index] = slot.collect(parsers[slot.index], value == null ? null : (List<?>) value);
+      } else if(value != null) {
+        values[slot.index] = parsers[slot.index].throwingParse((Node) value);
+      } else if(slot.required) {
+        throw ParseException.of(node, () -> "Missing " + (slot.kind == Kind.ATTRIBUTE ? "attribute" : "element") + " '" + slot.name + "' for " + this.type.getName());
+      } else {
+        values[slot.index] = slot.absent;
+      }
+    }
+    return this.create(node, found, values);
+  }
+
+  private @NonNull T create(final @NonNull Node node, final Object @NonNull [] found, final Object @NonNull [] values) throws XMLException {
+    try {
+      if(this.viaConstructor) {
+        return this.type.cast(this.constructor.invokeExact(values));
+      }
+      final Object instance = (Object) this.constructor.invokeExact();
+      for(final Slot slot : this.slots) {
+        // absent optional values leave the field as constructed
+        if(slot.kind == Kind.CHILDREN || found[slot.index] != null) {
+          slot.setter.invokeExact(instance, values[slot.index]);
+        }
+      }
+      return this.type.cast(instance);
+    } catch(final XMLException | RuntimeException | Error e) {
+      throw e;
+    } catch(final Throwable t) {
+      throw new ParseException(node, "Could not create " + this.type.getName(), t);
+    }
+  }
+
+  private @Nullable Parser<?>[] parsers() {
+    /* @Nullable */ Parser<?>[] parsers = this.parsers;
+    if(parsers == null) {
+      parsers = new Parser<?>[this.slots.length];
+      for(final Slot slot : this.slots) {
+        parsers[slot.index] = this.registry.parser(slot.elementType);
+      }
+      this.parsers = parsers;
+    }
+    return parsers;
+  }
+
+  private static @Nullable Constructor<?> boundConstructor(final @NonNull Class<?> type) {
+    for(final Constructor<?> constructor : type.getDeclaredConstructors()) {
+      final Parameter[] parameters = constructor.getParameters();
+      if(parameters.length > 0 && isBound(parameters[0])) {
+        for(final Parameter parameter : parameters) {
+          if(!isBound(parameter)) {
+            throw new IllegalArgumentException("Every parameter of " + constructor + " must be bound");
+          }
+        }
+        return constructor;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isBound(final @NonNull AnnotatedElement element) {
+    return element.isAnnotationPresent(Attribute.class) || element.isAnnotationPresent(Child.class) || element.isAnnotationPresent(Children.class);
+  }
+
+  private static @NonNull Slot slot(final @NonNull AnnotatedElement element, final @Nullable String defaultName, final @NonNull Type type, final @Nullable MethodHandle setter) {
+    final /* @Nullable */ Attribute attribute = element.getAnnotation(Attribute.class);
+    final /* @Nullable */ Child child = element.getAnnotation(Child.class);
+    final /* @Nullable */ Children children = element.getAnnotation(Children.class);
+    if(attribute != null) {
+      return new Slot(element, Kind.ATTRIBUTE, name(element, attribute.value(), defaultName), attribute.required(), type, type, setter);
+    } else if(child != null) {
+      return new Slot(element, Kind.CHILD, name(element, child.value(), defaultName), child.required(), type, type, setter);
+    }
+    final String name = name(element, children.value(), defaultName);
+    if(type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == List.class) {
+      return new Slot(element, Kind.CHILDREN, name, false, type, ((ParameterizedType) type).getActualTypeArguments()[0], setter);
+    } else if(type instanceof Class<?> && ((Class<?>) type).isArray()) {
+      return new Slot(element, Kind.CHILDREN, name, false, type, ((Class<?>) type).getComponentType(), setter);
+    } else if(type instanceof GenericArrayType) {
+      return new Slot(element, Kind.CHILDREN, name, false, type, ((GenericArrayType) type).getGenericComponentType(), setter);
+    }
+    throw new IllegalArgumentException("@" + Children.class.getSimpleName() + " " + element + " must be a List or an array");
+  }
+
+  private static @NonNull String name(final @NonNull AnnotatedElement element, final @NonNull String name, final @Nullable String defaultName) {
+    if(!name.isEmpty()) {
+      return name;
+    } else if(defaultName != null) {
+      return defaultName;
+    }
+    throw new IllegalArgumentException("A name is required for " + element + ", as parameter names are not available");
+  }
+
+  private enum Kind {
+    ATTRIBUTE,
+    CHILD,
+    CHILDREN;
+  }
+
+  private static final class Slot {
+    final Kind kind;
+    final String name;
+    final boolean required;
+    // the type parsed for each node - the element type, for children
+    final Type elementType;
+    final @Nullable MethodHandle setter;
+    // the value passed to a constructor when absent
+    final @Nullable Object absent;
+    // the array component type, for children bound to an array
+    final @Nullable Class<?> component;
+    int index;
+
+    Slot(final @NonNull AnnotatedElement element, final @NonNull Kind kind, final @NonNull String name, final boolean required, final @NonNull Type type, final @NonNull Type elementType, final @Nullable MethodHandle setter) {
+      this.kind = kind;
+      this.name = name;
+      this.required = required;
+      this.elementType = elementType;
+      this.setter = setter;
+      final Class<?> raw = raw(type);
+      this.absent = raw.isPrimitive() ? Array.get(Array.newInstance(raw, 1), 0) : null;
+      this.component = raw.isArray() ? raw.getComponentType() : null;
+    }
+
+    @NonNull Object collect(final @NonNull Parser<?> parser, final @Nullable List<?> nodes) throws XMLException {
+      final int size = nodes == null ? 0 : nodes.size();
+      if(this.component != null) {
+        final Object array = Array.newInstance(this.component, size);
+        for(int i = 0; i < size; i++) {
+          Array.set(array, i, parser.throwingParse((Node) nodes.get(i)));
+        }
+        return array;
+      }
+      final List<Object> values = new ArrayList<>(size);
+      for(int i = 0; i < size; i++) {
+        values.add(parser.throwingParse((Node) nodes.get(i)));
+      }
+      return values;
+    }
+
+    private static @NonNull Class<?> raw(final @NonNull Type type) {
+      if(type instanceof Class<?>) {
+        return (Class<?>) type;
+      } else if(type instanceof ParameterizedType) {
+        return raw(((ParameterizedType) type).getRawType());
+      } else if(type instanceof GenericArrayType) {
+        return Array.newInstance(raw(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+      }
+      return Object.class;
+    }
+  }
+}
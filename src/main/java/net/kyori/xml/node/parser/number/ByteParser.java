@@ -31,8 +31,10 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 /**
  * Parses a {@link Node} into a {@link Byte byte}.
  */
-public class ByteParser implements NumberParser<Byte> {
+public class ByteParser implements NumberParser<Byte>, IntNodeParser {
   private static final ByteParser INSTANCE = new ByteParser();
+  // a subclass may override how values are parsed, which the primitive methods must not bypass
+  private final boolean stock = this.getClass() == ByteParser.class;
 
   /**
    * Gets the parser.
@@ -50,10 +52,48 @@ public class ByteParser implements NumberParser<Byte> {
 
   @Override
   public @NonNull Byte finite(final @NonNull Node node, final @NonNull String string) throws XMLException {
-    try {
-      return Byte.parseByte(string);
-    } catch(final NumberFormatException e) {
-      throw new ParseException(node, "Could not parse '" + string + "' as a byte", e);
+    return this.finite(node, string, 0, string.length());
+  }
+
+  /**
+   * Parses a range of characters into a finite {@code byte}.
+   *
+   * @param node the node
+   * @param string the characters
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return the parsed value
+   * @throws XMLException if the range is not a valid {@code byte}
+   */
+  public byte finite(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    final long value = Numbers.parseInt(string, start, end, Byte.MIN_VALUE, Byte.MAX_VALUE);
+    if(value == Numbers.INVALID) {
+      final String text = string.subSequence(start, end).toString();
+      throw ParseException.of(node, () -> "Could not parse '" + text + "' as a byte");
+    }
+    return (byte) value;
+  }
+
+  @Override
+  public int parseInt(final @NonNull Node node) throws XMLException {
+    if(!this.stock) {
+      return this.throwingParse(node);
+    }
+    return IntNodeParser.super.parseInt(node);
+  }
+
+  @Override
+  public int parseInt(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    if(!this.stock) {
+      return this.throwingParse(node, string.subSequence(start, end).toString());
+    }
+    switch(Numbers.infinity(string, start, end)) {
+      case -1:
+        return this.negativeInfinity(node, string.subSequence(start, end).toString());
+      case 1:
+        return this.positiveInfinity(node, string.subSequence(start, end).toString());
+      default:
+        return this.finite(node, string, start, end);
     }
   }
 
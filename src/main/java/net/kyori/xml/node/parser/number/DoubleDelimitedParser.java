@@ -0,0 +1,64 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser.number;
+
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.parser.DelimitedParser;
+import net.kyori.xml.node.parser.Delimiter;
+import net.kyori.xml.node.parser.PrimitiveParser;
+import net.kyori.xml.node.parser.RangeParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A parser that produces a {@code double[]} from the delimited tokens of a {@link Node}'s
+ * {@link Node#value() value}.
+ *
+ * <p>Tokens are parsed in place, and no values are boxed. Nested arrays are parsed by using this as the
+ * element parser of a {@link DelimitedParser}.</p>
+ */
+public class DoubleDelimitedParser implements PrimitiveParser<double[]>, RangeParser<double[]> {
+  private final Delimiter delimiter;
+  private final DoubleNodeParser parser;
+
+  public DoubleDelimitedParser(final @NonNull Delimiter delimiter, final @NonNull DoubleNodeParser parser) {
+    this.delimiter = delimiter;
+    this.parser = parser;
+  }
+
+  @Override
+  public double @NonNull [] throwingParse(final @NonNull Node node, final @NonNull String string) throws XMLException {
+    return this.throwingParse(node, string, 0, string.length());
+  }
+
+  @Override
+  public double @NonNull [] throwingParse(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    final double[] values = new double[this.delimiter.count(string, start, end)];
+    final Delimiter.Cursor cursor = this.delimiter.cursor(string, start, end);
+    for(int i = 0; cursor.next(); i++) {
+      values[i] = this.parser.parseDouble(node, string, cursor.start(), cursor.end());
+    }
+    return values;
+  }
+}
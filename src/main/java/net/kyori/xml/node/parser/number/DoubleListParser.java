@@ -0,0 +1,82 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser.number;
+
+import java.util.Arrays;
+import net.kyori.mu.Maybe;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.parser.ListParser;
+import net.kyori.xml.node.parser.ParseErrors;
+import net.kyori.xml.node.parser.Parser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A parser that produces a {@code double[]}.
+ *
+ * <p>Like {@link ListParser}, each of the {@link Node#nodes() child nodes} is parsed. The array is
+ * sized exactly, and no values are boxed.</p>
+ */
+public class DoubleListParser implements Parser<double[]> {
+  private final DoubleNodeParser parser;
+
+  public DoubleListParser(final @NonNull DoubleNodeParser parser) {
+    this.parser = parser;
+  }
+
+  @Override
+  public double @NonNull [] throwingParse(final @NonNull Node node) throws XMLException {
+    final Node[] nodes = node.nodes().toArray(Node[]::new);
+    final double[] values = new double[nodes.length];
+    for(int i = 0; i < nodes.length; i++) {
+      values[i] = this.parser.parseDouble(nodes[i]);
+    }
+    return values;
+  }
+
+  /**
+   * Parses each child node, collecting exceptions instead of throwing them.
+   *
+   * <p>Child nodes which could not be parsed are left out of the array.</p>
+   *
+   * @param node the node
+   * @param errors the collected exceptions
+   * @return the parsed values
+   */
+  @Override
+  public @NonNull Maybe<double[]> parse(final @NonNull Node node, final @NonNull ParseErrors errors) {
+    final Node[] nodes = node.nodes().toArray(Node[]::new);
+    final double[] values = new double[nodes.length];
+    int size = 0;
+    for(final Node child : nodes) {
+      try {
+        values[size] = this.parser.parseDouble(child);
+        size++;
+      } catch(final XMLException e) {
+        errors.add(e);
+      }
+    }
+    return Maybe.just(size == values.length ? values : Arrays.copyOf(values, size));
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser.number;
+
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Parses a {@link Node} into a {@code double}, without boxing.
+ */
+public interface DoubleNodeParser {
+  /**
+   * Parses a {@link Node}'s {@link Node#value() value} into a {@code double}.
+   *
+   * @param node the node
+   * @return the parsed value
+   * @throws XMLException if an exception occurred while parsing
+   */
+  default double parseDouble(final @NonNull Node node) throws XMLException {
+    final String value = node.value();
+    return this.parseDouble(node, value, 0, value.length());
+  }
+
+  /**
+   * Parses a range of characters into a {@code double}.
+   *
+   * @param node the node
+   * @param string the characters
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return the parsed value
+   * @throws XMLException if an exception occurred while parsing
+   */
+  double parseDouble(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException;
+}
@@ -31,8 +31,10 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 /**
  * Parses a {@link Node} into a {@link Double double}.
  */
-public class DoubleParser implements NumberParser<Double> {
+public class DoubleParser implements NumberParser<Double>, DoubleNodeParser {
   private static final DoubleParser INSTANCE = new DoubleParser();
+  // a subclass may override how values are parsed, which the primitive methods must not bypass
+  private final boolean stock = this.getClass() == DoubleParser.class;
 
   /**
    * Gets the parser.
@@ -50,10 +52,52 @@ public class DoubleParser implements NumberParser<Double> {
 
   @Override
   public @NonNull Double finite(final @NonNull Node node, final @NonNull String string) throws XMLException {
-    try {
-      return Double.parseDouble(string);
-    } catch(final NumberFormatException e) {
-      throw new ParseException(node, "Could not parse '" + string + "' as a double", e);
+    return this.finite(node, string, 0, string.length());
+  }
+
+  /**
+   * Parses a range of characters into a finite {@code double}.
+   *
+   * @param node the node
+   * @param string the characters
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return the parsed value
+   * @throws XMLException if the range is not a valid {@code double}
+   */
+  public double finite(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    final double parsed = FloatingPoints.parseDouble(string, start, end);
+    if(parsed == parsed) {
+      return parsed;
+    }
+    // NaN here means the fast path declined, not that the value is NaN
+    if(!Numbers.isFloatingPoint(string, start, end)) {
+      final String text = string.subSequence(start, end).toString();
+      throw ParseException.of(node, () -> "Could not parse '" + text + "' as a double");
+    }
+    return Double.parseDouble(string.subSequence(start, end).toString());
+  }
+
+  @Override
+  public double parseDouble(final @NonNull Node node) throws XMLException {
+    if(!this.stock) {
+      return this.throwingParse(node);
+    }
+    return DoubleNodeParser.super.parseDouble(node);
+  }
+
+  @Override
+  public double parseDouble(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    if(!this.stock) {
+      return this.throwingParse(node, string.subSequence(start, end).toString());
+    }
+    switch(Numbers.infinity(string, start, end)) {
+      case -1:
+        return this.negativeInfinity(node, string.subSequence(start, end).toString());
+      case 1:
+        return this.positiveInfinity(node, string.subSequence(start, end).toString());
+      default:
+        return this.finite(node, string, start, end);
     }
   }
 
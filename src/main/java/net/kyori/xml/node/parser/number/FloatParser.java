@@ -31,8 +31,10 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 /**
  * Parses a {@link Node} into a {@link Float float}.
  */
-public class FloatParser implements NumberParser<Float> {
+public class FloatParser implements NumberParser<Float>, DoubleNodeParser {
   private static final FloatParser INSTANCE = new FloatParser();
+  // a subclass may override how values are parsed, which the primitive methods must not bypass
+  private final boolean stock = this.getClass() == FloatParser.class;
 
   /**
    * Gets the parser.
@@ -50,10 +52,52 @@ public class FloatParser implements NumberParser<Float> {
 
   @Override
   public @NonNull Float finite(final @NonNull Node node, final @NonNull String string) throws XMLException {
-    try {
-      return Float.parseFloat(string);
-    } catch(final NumberFormatException e) {
-      throw new ParseException(node, "Could not parse '" + string + "' as a float", e);
+    return this.finite(node, string, 0, string.length());
+  }
+
+  /**
+   * Parses a range of characters into a finite {@code float}.
+   *
+   * @param node the node
+   * @param string the characters
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return the parsed value
+   * @throws XMLException if the range is not a valid {@code float}
+   */
+  public float finite(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    final float parsed = FloatingPoints.parseFloat(string, start, end);
+    if(parsed == parsed) {
+      return parsed;
+    }
+    // NaN here means the fast path declined, not that the value is NaN
+    if(!Numbers.isFloatingPoint(string, start, end)) {
+      final String text = string.subSequence(start, end).toString();
+      throw ParseException.of(node, () -> "Could not parse '" + text + "' as a float");
+    }
+    return Float.parseFloat(string.subSequence(start, end).toString());
+  }
+
+  @Override
+  public double parseDouble(final @NonNull Node node) throws XMLException {
+    if(!this.stock) {
+      return this.throwingParse(node);
+    }
+    return DoubleNodeParser.super.parseDouble(node);
+  }
+
+  @Override
+  public double parseDouble(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    if(!this.stock) {
+      return this.throwingParse(node, string.subSequence(start, end).toString());
+    }
+    switch(Numbers.infinity(string, start, end)) {
+      case -1:
+        return this.negativeInfinity(node, string.subSequence(start, end).toString());
+      case 1:
+        return this.positiveInfinity(node, string.subSequence(start, end).toString());
+      default:
+        return this.finite(node, string, start, end);
     }
   }
 
@@ -31,8 +31,10 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 /**
  * Parses a {@link Node} into a {@link Long long}.
  */
-public class LongParser implements NumberParser<Long> {
+public class LongParser implements NumberParser<Long>, LongNodeParser {
   private static final LongParser INSTANCE = new LongParser();
+  // a subclass may override how values are parsed, which the primitive methods must not bypass
+  private final boolean stock = this.getClass() == LongParser.class;
 
   /**
    * Gets the parser.
@@ -50,10 +52,48 @@ public class LongParser implements NumberParser<Long> {
 
   @Override
   public @NonNull Long finite(final @NonNull Node node, final @NonNull String string) throws XMLException {
-    try {
-      return Long.parseLong(string);
-    } catch(final NumberFormatException e) {
-      throw new ParseException(node, "Could not parse '" + string + "' as a long", e);
+    return this.finite(node, string, 0, string.length());
+  }
+
+  /**
+   * Parses a range of characters into a finite {@code long}.
+   *
+   * @param node the node
+   * @param string the characters
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return the parsed value
+   * @throws XMLException if the range is not a valid {@code long}
+   */
+  public long finite(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    final long value = Numbers.parseLong(string, start, end);
+    if(value == Numbers.INVALID && !Numbers.isLongMinValue(string, start, end)) {
+      final String text = string.subSequence(start, end).toString();
+      throw ParseException.of(node, () -> "Could not parse '" + text + "' as a long");
+    }
+    return value;
+  }
+
+  @Override
+  public long parseLong(final @NonNull Node node) throws XMLException {
+    if(!this.stock) {
+      return this.throwingParse(node);
+    }
+    return LongNodeParser.super.parseLong(node);
+  }
+
+  @Override
+  public long parseLong(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    if(!this.stock) {
+      return this.throwingParse(node, string.subSequence(start, end).toString());
+    }
+    switch(Numbers.infinity(string, start, end)) {
+      case -1:
+        return this.negativeInfinity(node, string.subSequence(start, end).toString());
+      case 1:
+        return this.positiveInfinity(node, string.subSequence(start, end).toString());
+      default:
+        return this.finite(node, string, start, end);
     }
   }
 
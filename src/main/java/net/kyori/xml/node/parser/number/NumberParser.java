@@ -45,15 +45,13 @@ public interface NumberParser<T extends Number> extends PrimitiveParser<T> {
 
   @Override
   default @NonNull T throwingParse(final @NonNull Node node, final @NonNull String string) throws XMLException {
-    switch(string) {
-      case NEGATIVE_INFINITY_SYMBOL_A:
-      case NEGATIVE_INFINITY_SYMBOL_B:
+    switch(Numbers.infinity(string, 0, string.length())) {
+      case -1:
         return this.negativeInfinity(node, string);
+      case 1:
+        return this.positiveInfinity(node, string);
       default:
         return this.finite(node, string);
-      case POSITIVE_INFINITY_SYMBOL_A:
-      case POSITIVE_INFINITY_SYMBOL_B:
-        return this.positiveInfinity(node, string);
     }
   }
 
@@ -0,0 +1,300 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser.number;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Parses and validates numbers in a single pass over a range of characters, without throwing or allocating.
+ *
+ * <p>The accepted syntax matches the {@code parse} methods of the boxed number types.</p>
+ */
+/* package */ final class Numbers {
+  /**
+   * Returned when a value is not a valid number.
+   *
+   * <p>This is also {@link Long#MIN_VALUE}, a valid {@code long} - see {@link #isLongMinValue(CharSequence, int, int)}.</p>
+   */
+  static final long INVALID = Long.MIN_VALUE;
+  // the magnitude of Long.MIN_VALUE, without its sign
+  private static final String LONG_MIN_MAGNITUDE = Long.toString(Long.MIN_VALUE).substring(1);
+
+  private Numbers() {
+  }
+
+  /**
+   * Parses a decimal integer between {@code min} and {@code max}, inclusive.
+   *
+   * @param string the string
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @param min the minimum value
+   * @param max the maximum value
+   * @return the value, or {@link #INVALID}
+   */
+  static long parseInt(final @NonNull CharSequence string, final int start, final int end, final int min, final int max) {
+    int index = start;
+    if(index >= end) {
+      return INVALID;
+    }
+    final char first = string.charAt(index);
+    final boolean negative = first == '-';
+    if(negative || first == '+') {
+      if(++index == end) {
+        return INVALID;
+      }
+    }
+    // the magnitude is accumulated in a long, which cannot overflow for int ranges
+    final long limit = negative ? -(long) min : max;
+    long result = 0;
+    while(index < end) {
+      final int digit = digit(string.charAt(index++));
+      if(digit < 0) {
+        return INVALID;
+      }
+      result = result * 10 + digit;
+      if(result > limit) {
+        return INVALID;
+      }
+    }
+    return negative ? -result : result;
+  }
+
+  /**
+   * Parses a decimal long.
+   *
+   * @param string the string
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return the value, or {@link #INVALID}
+   * @see #isLongMinValue(CharSequence, int, int)
+   */
+  static long parseLong(final @NonNull CharSequence string, final int start, final int end) {
+    int index = start;
+    if(index >= end) {
+      return INVALID;
+    }
+    final char first = string.charAt(index);
+    final boolean negative = first == '-';
+    if(negative || first == '+') {
+      if(++index == end) {
+        return INVALID;
+      }
+    }
+    // accumulated negatively, as the negative range is larger
+    final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+    final long multiplyMin = limit / 10;
+    long result = 0;
+    while(index < end) {
+      final int digit = digit(string.charAt(index++));
+      if(digit < 0 || result < multiplyMin) {
+        return INVALID;
+      }
+      result *= 10;
+      if(result < limit + digit) {
+        return INVALID;
+      }
+      result -= digit;
+    }
+    return negative ? result : -result;
+  }
+
+  /**
+   * Checks if a range of characters is {@link Long#MIN_VALUE}, which {@link #parseLong(CharSequence, int, int)}
+   * cannot tell apart from {@link #INVALID}.
+   *
+   * <p>Leading zeros and non-ascii digits are accepted, as they are by {@link Long#parseLong(String)}.</p>
+   *
+   * @param string the string
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return {@code true} if the range is {@link Long#MIN_VALUE}
+   */
+  static boolean isLongMinValue(final @NonNull CharSequence string, final int start, final int end) {
+    int index = start;
+    if(index == end || string.charAt(index++) != '-') {
+      return false;
+    }
+    while(index < end && digit(string.charAt(index)) == 0) {
+      index++;
+    }
+    if(end - index != LONG_MIN_MAGNITUDE.length()) {
+      return false;
+    }
+    for(int i = 0; index < end; i++) {
+      if(digit(string.charAt(index++)) != LONG_MIN_MAGNITUDE.charAt(i) - '0') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if a range of characters is accepted by {@link Double#parseDouble(String)}.
+   *
+   * @param string the string
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return {@code true} if the range is a valid floating point number
+   */
+  static boolean isFloatingPoint(final @NonNull CharSequence string, int start, int end) {
+    // leading and trailing whitespace is ignored
+    while(start < end && string.charAt(start) <= ' ') {
+      start++;
+    }
+    while(end > start && string.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if(start == end) {
+      return false;
+    }
+    int index = start;
+    final char first = string.charAt(index);
+    if(first == '-' || first == '+') {
+      index++;
+    }
+    if(regionMatches(string, index, end, "NaN") || regionMatches(string, index, end, "Infinity")) {
+      return true;
+    }
+    if(index + 1 < end && string.charAt(index) == '0' && (string.charAt(index + 1) == 'x' || string.charAt(index + 1) == 'X')) {
+      return isHexFloatingPoint(string, index + 2, end);
+    }
+    int digits = 0;
+    while(index < end && isDigit(string.charAt(index))) {
+      index++;
+      digits++;
+    }
+    if(index < end && string.charAt(index) == '.') {
+      index++;
+      while(index < end && isDigit(string.charAt(index))) {
+        index++;
+        digits++;
+      }
+    }
+    if(digits == 0) {
+      return false;
+    }
+    if(index < end && (string.charAt(index) == 'e' || string.charAt(index) == 'E')) {
+      index = exponent(string, index + 1, end);
+      if(index == -1) {
+        return false;
+      }
+    }
+    return isSuffix(string, index, end);
+  }
+
+  private static boolean isHexFloatingPoint(final @NonNull CharSequence string, int index, final int end) {
+    int digits = 0;
+    while(index < end && isHexDigit(string.charAt(index))) {
+      index++;
+      digits++;
+    }
+    if(index < end && string.charAt(index) == '.') {
+      index++;
+      while(index < end && isHexDigit(string.charAt(index))) {
+        index++;
+        digits++;
+      }
+    }
+    // the binary exponent is required
+    if(digits == 0 || index == end || (string.charAt(index) != 'p' && string.charAt(index) != 'P')) {
+      return false;
+    }
+    index = exponent(string, index + 1, end);
+    return index != -1 && isSuffix(string, index, end);
+  }
+
+  private static int exponent(final @NonNull CharSequence string, int index, final int end) {
+    if(index < end && (string.charAt(index) == '-' || string.charAt(index) == '+')) {
+      index++;
+    }
+    final int start = index;
+    while(index < end && isDigit(string.charAt(index))) {
+      index++;
+    }
+    return index == start ? -1 : index;
+  }
+
+  private static boolean isSuffix(final @NonNull CharSequence string, final int index, final int end) {
+    if(index == end) {
+      return true;
+    }
+    if(index + 1 != end) {
+      return false;
+    }
+    final char c = string.charAt(index);
+    return c == 'f' || c == 'F' || c == 'd' || c == 'D';
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isHexDigit(final char c) {
+    return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
+  // integers also accept non-ascii digits, as Character#digit does
+  private static int digit(final char c) {
+    if(c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    return c < 128 ? -1 : Character.digit(c, 10);
+  }
+
+  /**
+   * Checks if a range of characters is one of the {@link NumberParser} infinity symbols.
+   *
+   * @param string the string
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return {@code -1} for negative infinity, {@code 1} for positive infinity, or {@code 0}
+   */
+  static int infinity(final @NonNull CharSequence string, final int start, final int end) {
+    // every symbol starts with a sign, so almost all numbers are rejected by their first character
+    if(start == end) {
+      return 0;
+    }
+    final char sign = string.charAt(start);
+    if(sign != '-' && sign != '+') {
+      return 0;
+    }
+    if(!regionMatches(string, start + 1, end, NumberParser.INFINITY_SYMBOL_A) && !regionMatches(string, start + 1, end, NumberParser.INFINITY_SYMBOL_B)) {
+      return 0;
+    }
+    return sign == '-' ? -1 : 1;
+  }
+
+  static boolean regionMatches(final @NonNull CharSequence string, final int start, final int end, final @NonNull String expected) {
+    if(end - start != expected.length()) {
+      return false;
+    }
+    for(int i = 0; i < expected.length(); i++) {
+      if(string.charAt(start + i) != expected.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
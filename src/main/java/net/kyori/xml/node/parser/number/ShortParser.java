@@ -31,8 +31,10 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 /**
  * Parses a {@link Node} into a {@link Short short}.
  */
-public class ShortParser implements NumberParser<Short> {
+public class ShortParser implements NumberParser<Short>, IntNodeParser {
   private static final ShortParser INSTANCE = new ShortParser();
+  // a subclass may override how values are parsed, which the primitive methods must not bypass
+  private final boolean stock = this.getClass() == ShortParser.class;
 
   /**
    * Gets the parser.
@@ -50,10 +52,48 @@ public class ShortParser implements NumberParser<Short> {
 
   @Override
   public @NonNull Short finite(final @NonNull Node node, final @NonNull String string) throws XMLException {
-    try {
-      return Short.parseShort(string);
-    } catch(final NumberFormatException e) {
-      throw new ParseException(node, "Could not parse '" + string + "' as a short", e);
+    return this.finite(node, string, 0, string.length());
+  }
+
+  /**
+   * Parses a range of characters into a finite {@code short}.
+   *
+   * @param node the node
+   * @param string the characters
+   * @param start the start index, inclusive
+   * @param end the end index, exclusive
+   * @return the parsed value
+   * @throws XMLException if the range is not a valid {@code short}
+   */
+  public short finite(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    final long value = Numbers.parseInt(string, start, end, Short.MIN_VALUE, Short.MAX_VALUE);
+    if(value == Numbers.INVALID) {
+      final String text = string.subSequence(start, end).toString();
+      throw ParseException.of(node, () -> "Could not parse '" + text + "' as a short");
+    }
+    return (short) value;
+  }
+
+  @Override
+  public int parseInt(final @NonNull Node node) throws XMLException {
+    if(!this.stock) {
+      return this.throwingParse(node);
+    }
+    return IntNodeParser.super.parseInt(node);
+  }
+
+  @Override
+  public int parseInt(final @NonNull Node node, final @NonNull CharSequence string, final int start, final int end) throws XMLException {
+    if(!this.stock) {
+      return this.throwingParse(node, string.subSequence(start, end).toString());
+    }
+    switch(Numbers.infinity(string, start, end)) {
+      case -1:
+        return this.negativeInfinity(node, string.subSequence(start, end).toString());
+      case 1:
+        return this.positiveInfinity(node, string.subSequence(start, end).toString());
+      default:
+        return this.finite(node, string, start, end);
     }
   }
 
@@ -33,9 +33,13 @@ import org.jdom2.input.SAXBuilder;
 
 public interface Testing {
   static Node read(final String path) throws IOException, JDOMException {
+    return Node.of(readElement(path));
+  }
+
+  static Element readElement(final String path) throws IOException, JDOMException {
     final SAXBuilder builder = new SAXBuilder();
     try(final InputStream is = Testing.class.getResourceAsStream(path)) {
-      return Node.of(builder.build(is).getRootElement());
+      return builder.build(is).getRootElement();
     }
   }
 
@@ -52,4 +56,12 @@ public interface Testing {
   static Node element(final String name, final String value) {
     return Node.of(new Element(name).setText(value));
   }
+
+  static Node list(final String... values) {
+    return element("list", element -> {
+      for(final String value : values) {
+        element.addContent(new Element("value").setText(value));
+      }
+    });
+  }
 }
@@ -24,25 +24,36 @@
 package net.kyori.xml.element;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import net.kyori.xml.Testing;
 import net.kyori.xml.node.ElementNode;
+import net.kyori.xml.node.InheritableElementNode;
+import net.kyori.xml.node.InheritancePolicy;
 import net.kyori.xml.node.Node;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jdom2.Element;
 import org.jdom2.JDOMException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class InheritedElementTest {
   private Node root;
+  private Node deep;
 
   @BeforeAll
   void init() throws IOException, JDOMException {
     this.root = Testing.read("/inherited_test.xml");
+    this.deep = Testing.read("/inherited_view_test.xml");
   }
 
   @Test
@@ -58,4 +69,110 @@ class InheritedElementTest {
     final Node again = ((ElementNode) target).inherited();
     assertSame(target, again);
   }
+
+  @Test
+  void testInheritView() {
+    final Node source = this.deep.element("things").orThrow().element("thing").orThrow().element("deeper").orThrow();
+    assertFalse(source.attribute("abc").isJust());
+
+    final Node target = ((ElementNode) source).inheritedView();
+    assertEquals("pqr", target.attribute("mno").orThrow().value());
+    assertEquals("fed", target.attribute("abc").orThrow().value());
+    assertEquals("jkl", target.attribute("ghi").orThrow().value());
+    assertEquals("mno,abc,ghi", target.attributes().map(Node::name).collect(Collectors.joining(",")));
+    assertEquals(2, target.attributes("abc", "ghi").count());
+    assertEquals(0, target.elements().count());
+
+    final Node again = ((ElementNode) target).inheritedView();
+    assertSame(target, again);
+  }
+
+  @Test
+  void testInheritViewFrozen() {
+    final Element things = new Element("things").setAttribute("abc", "def").addContent(new Element("thing").setAttribute("ghi", "jkl"));
+    final InheritableElementNode thing = (InheritableElementNode) ElementNode.frozen(things).element("thing").orThrow();
+    final ElementNode view = thing.inheritedView();
+    assertEquals("ghi,abc", view.attributes().map(Node::name).collect(Collectors.joining(",")));
+    assertEquals("def", view.attribute("abc").orThrow().value());
+    assertFalse(view.attribute("mno").isJust());
+    assertSame(view, thing.inheritedView());
+    assertSame(view, thing.inherited(InheritancePolicy.all()));
+    assertSame(view, ((InheritableElementNode) view).inherited(InheritancePolicy.all()));
+    assertSame(view, ((InheritableElementNode) thing.inherited(InheritancePolicy.builder().maxDistance(1).build())).inheritedView());
+    assertNotSame(view, ((InheritableElementNode) Node.of(things.getChild("thing"))).inheritedView());
+  }
+
+  @Test
+  void testInheritViewDefault() {
+    final ElementNode node = new ElementNode() {
+      @Override
+      public @NonNull String name() {
+        return "node";
+      }
+
+      @Override
+      public @NonNull String value() {
+        return "";
+      }
+
+      @Override
+      public @NonNull Stream<Node> elements() {
+        return Stream.empty();
+      }
+
+      @Override
+      public @NonNull Stream<Node> elements(final @NonNull Collection<String> names) {
+        return Stream.empty();
+      }
+
+      @Override
+      public @NonNull Stream<Node> attributes() {
+        return Stream.empty();
+      }
+
+      @Override
+      public @NonNull Stream<Node> attributes(final @NonNull Collection<String> names) {
+        return Stream.empty();
+      }
+
+      @Override
+      public @NonNull ElementNode inherited() {
+        return this;
+      }
+    };
+    assertSame(node, node.inheritedView());
+  }
+
+  @Test
+  void testInheritFrozen() {
+    final Element things = new Element("things").setAttribute("abc", "def").addContent(new Element("thing"));
+    final Node root = ElementNode.frozen(things);
+    final ElementNode inherited = ((ElementNode) root.element("thing").orThrow()).inherited();
+    assertEquals("def", inherited.attribute("abc").orThrow().value());
+    assertSame(inherited, ((ElementNode) root.element("thing").orThrow()).inherited());
+    assertNotSame(inherited, ((ElementNode) ElementNode.frozen(things).element("thing").orThrow()).inherited());
+  }
+
+  @Test
+  void testInheritPolicy() {
+    final Element deeper = new Element("deeper").setAttribute("own", "yes");
+    new Element("root").setAttribute("team", "red").setAttribute("owner", "a")
+      .addContent(new Element("scope").setAttribute("filter", "f").setAttribute("id", "scope")
+        .addContent(new Element("thing").setAttribute("owner", "b")
+          .addContent(deeper)));
+    final InheritableElementNode node = (InheritableElementNode) Node.of(deeper);
+
+    final Node whitelisted = node.inherited(InheritancePolicy.builder().attributes("team", "owner", "filter").build());
+    assertEquals("own,owner,filter,team", whitelisted.attributes().map(Node::name).collect(Collectors.joining(",")));
+    assertEquals("b", whitelisted.attribute("owner").orThrow().value());
+
+    final Node near = node.inherited(InheritancePolicy.builder().maxDistance(1).build());
+    assertEquals("own,owner", near.attributes().map(Node::name).collect(Collectors.joining(",")));
+
+    final Node scoped = node.inherited(InheritancePolicy.builder().stopElements("scope").build());
+    assertEquals("own,owner,filter,id", scoped.attributes().map(Node::name).collect(Collectors.joining(",")));
+    assertFalse(scoped.attribute("team").isJust());
+
+    assertSame(scoped, ((InheritableElementNode) scoped).inherited(InheritancePolicy.builder().stopElements("scope").build()));
+  }
 }
@@ -0,0 +1,81 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.kyori.xml.Testing;
+import net.kyori.xml.node.function.NodePredicates;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class DescendantsTest {
+  private Node root;
+
+  @BeforeAll
+  void init() throws IOException, JDOMException {
+    this.root = Testing.read("/node/finder_test.xml");
+  }
+
+  @Test
+  void testDescendants() {
+    final List<String> names = this.root.descendants().map(Node::name).collect(Collectors.toList());
+    assertEquals(19, names.size());
+    assertEquals("things", names.get(0));
+    assertEquals("thing", names.get(1));
+    assertEquals("deeper", names.get(2));
+    assertEquals("child", names.get(3));
+    assertEquals("deeper", names.get(6));
+  }
+
+  @Test
+  void testDepth() {
+    assertEquals(0, this.root.descendants(0).count());
+    assertEquals(3, this.root.descendants(2).count());
+  }
+
+  @Test
+  void testPredicate() {
+    assertEquals(12, this.root.descendants(NodePredicates.named("child")).count());
+    assertEquals(4, this.root.descendants(3, NodePredicates.named("deeper", "child")).count());
+  }
+
+  @Test
+  void testParallel() {
+    final Element element = new Element("root");
+    final Element wrapper = new Element("wrapper");
+    element.addContent(wrapper);
+    IntStream.range(0, 1000).forEach(i -> wrapper.addContent(new Element("a").setAttribute("i", Integer.toString(i)).addContent(new Element("b"))));
+    final Node node = Node.of(element);
+    assertEquals(node.descendants().collect(Collectors.toList()), node.descendants().parallel().collect(Collectors.toList()));
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.kyori.xml.Testing;
+import net.kyori.xml.node.finder.BranchLeafNodeFinder;
+import net.kyori.xml.node.function.NodePredicates;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class InheritanceTest {
+  private Element root;
+
+  @BeforeAll
+  void init() throws IOException, JDOMException {
+    this.root = Testing.readElement("/inherited_view_test.xml");
+  }
+
+  @Test
+  void testResolve() {
+    final Inheritance inheritance = Inheritance.resolve(this.root);
+    final Node deeper = inheritance.node(this.root).element("things").orThrow().element("thing").orThrow().element("deeper").orThrow();
+    assertEquals("mno,abc,ghi", deeper.attributes().map(Node::name).collect(Collectors.joining(",")));
+    assertEquals("fed", deeper.attribute("abc").orThrow().value());
+    assertEquals("jkl", deeper.attribute("ghi").orThrow().value());
+  }
+
+  @Test
+  void testInherited() {
+    final Inheritance inheritance = Inheritance.resolve(this.root.getChild("things"));
+    final Node thing = Node.of(this.root).element("things").orThrow().element("thing").orThrow();
+    final Node resolved = inheritance.inherited(thing);
+    assertEquals("jkl", resolved.attribute("ghi").orThrow().value());
+    assertSame(resolved, inheritance.inherited(resolved));
+    final Node root = Node.of(this.root);
+    assertSame(root, inheritance.inherited(root));
+  }
+
+  @Test
+  void testEquals() {
+    final Element things = this.root.getChild("things");
+    final Inheritance a = Inheritance.resolve(this.root);
+    assertEquals(a.node(things), a.node(things));
+    assertEquals(a.node(things).hashCode(), a.node(things).hashCode());
+    assertNotEquals(a.node(things), Inheritance.resolve(things).node(things));
+  }
+
+  @Test
+  void testFunction() {
+    final Inheritance inheritance = Inheritance.resolve(this.root);
+    final List<Node> nodes = new BranchLeafNodeFinder(NodePredicates.named("root", "things", "thing"), NodePredicates.named("deeper"), inheritance.function(0))
+      .nodes(Node.of(this.root))
+      .collect(Collectors.toList());
+    assertEquals(1, nodes.size());
+    assertEquals("fed", nodes.get(0).attribute("abc").orThrow().value());
+  }
+}
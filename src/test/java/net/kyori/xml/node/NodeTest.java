@@ -26,12 +26,15 @@ package net.kyori.xml.node;
 import java.io.IOException;
 import java.util.Arrays;
 import net.kyori.xml.Testing;
+import org.jdom2.Element;
 import org.jdom2.JDOMException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
 import static com.google.common.truth.Truth8.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class NodeTest {
@@ -87,4 +90,21 @@ class NodeTest {
     assertThat(this.node.attribute("a-attribute").map(Node::value).optional()).hasValue("foo");
     assertThat(this.node.attribute("abc").map(Node::value).optional()).isEmpty();
   }
+
+  @Test
+  void testText() {
+    final Element element = new Element("parent").addContent("foo").addContent(new Element("child").setText("bar"));
+    final Node node = Node.of(element);
+    assertEquals("foobar", node.value());
+    assertEquals("foo", node.text());
+  }
+
+  @Test
+  void testFrozen() {
+    final Element element = new Element("parent").addContent(new Element("child").setText("bar"));
+    final Node node = ElementNode.frozen(element);
+    assertEquals("bar", node.value());
+    assertSame(node.element("child").orThrow(), node.element("child").orThrow());
+    assertSame(node.value(), node.value());
+  }
 }
@@ -24,10 +24,14 @@
 package net.kyori.xml.node.finder;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import net.kyori.xml.Testing;
 import net.kyori.xml.node.Node;
+import net.kyori.xml.node.function.NodeFunction;
+import net.kyori.xml.node.function.NodePredicates;
+import org.jdom2.Element;
 import org.jdom2.JDOMException;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -51,4 +55,63 @@ class NodeFinderTest {
     assertEquals(2, nodes.size());
     nodes.forEach(node -> assertEquals("thing", node.name()));
   }
+
+  @Test
+  void testBranchLeafDepth() {
+    final List<String> mapped = new ArrayList<>();
+    final NodeFunction mapper = (node, depth) -> {
+      mapped.add(node.name() + '@' + depth);
+      return node;
+    };
+    final NodeFinder finder = new BranchLeafNodeFinder(NodePredicates.named("things", "thing", "deeper"), NodePredicates.named("child"), mapper);
+    assertEquals(12, finder.nodes(this.root.element("things").orThrow()).count());
+    assertEquals("things@0", mapped.get(0));
+    assertEquals("thing@1", mapped.get(1));
+    assertEquals("deeper@2", mapped.get(2));
+    assertEquals("child@3", mapped.get(3));
+    assertEquals("deeper@2", mapped.get(6));
+    assertEquals(1 + 2 + 4 + 12, mapped.size());
+  }
+
+  @Test
+  void testBranchLeafForEach() {
+    final NodeFinder finder = new BranchLeafNodeFinder("things", "thing");
+    final List<Node> nodes = new ArrayList<>();
+    finder.forEach(this.root.element("things").orThrow(), nodes::add);
+    assertEquals(finder.nodes(this.root.element("things").orThrow()).collect(Collectors.toList()), nodes);
+  }
+
+  @Test
+  void testBranchLeafDeep() {
+    // built from the bottom up, as adding to a deep parent is linear in its depth
+    Element element = new Element("leaf");
+    for(int i = 0; i < 50_000; i++) {
+      element = new Element("branch").addContent(element);
+    }
+    final NodeFinder finder = new BranchLeafNodeFinder("branch", "leaf");
+    assertEquals(1, finder.nodes(Node.of(element)).count());
+  }
+
+  @Test
+  void testDispatcher() {
+    final Node things = this.root.element("things").orThrow();
+    final NodeFinder thing = new BranchLeafNodeFinder("things", "thing");
+    final NodeFinder deeper = new BranchLeafNodeFinder(NodePredicates.named("things", "thing"), NodePredicates.named("deeper"), NodeFunction.identity());
+    final NodeFinder child = parent -> parent.descendants(NodePredicates.named("child"));
+    final List<Node> things0 = new ArrayList<>();
+    final List<Node> deeper0 = new ArrayList<>();
+    final List<Node> children0 = new ArrayList<>();
+    final List<Node> children1 = new ArrayList<>();
+    NodeFinderDispatcher.builder()
+      .add(thing, things0::add)
+      .add(deeper, deeper0::add)
+      .add(NodePredicates.named("child"), children0::add)
+      .add(child, children1::add)
+      .build()
+      .dispatch(things);
+    assertEquals(thing.nodes(things).collect(Collectors.toList()), things0);
+    assertEquals(deeper.nodes(things).collect(Collectors.toList()), deeper0);
+    assertEquals(12, children0.size());
+    assertEquals(children1, children0);
+  }
 }
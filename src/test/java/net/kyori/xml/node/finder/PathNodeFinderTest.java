@@ -0,0 +1,101 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.finder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.kyori.xml.Testing;
+import net.kyori.xml.node.Node;
+import org.jdom2.JDOMException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PathNodeFinderTest {
+  private Node root;
+
+  @BeforeAll
+  void init() throws IOException, JDOMException {
+    this.root = Testing.read("/node/path_test.xml");
+  }
+
+  @Test
+  void testChild() {
+    assertEquals(Arrays.asList("cuboid", "union"), this.names("regions/*"));
+    assertEquals(Arrays.asList("spawn", "spawn"), this.names("/spawns/spawn"));
+  }
+
+  @Test
+  void testDescendant() {
+    assertEquals(Arrays.asList("a", "b", "c", "d"), this.ids("//cuboid"));
+    assertEquals(Arrays.asList("b", "c", "d"), this.ids("regions/union//cuboid"));
+    assertEquals(Arrays.asList("b", "c", "d"), this.ids("//union//cuboid"));
+  }
+
+  @Test
+  void testAttributes() {
+    assertEquals(Arrays.asList("a", "c"), this.ids("//cuboid[@team='red']"));
+    assertEquals(Arrays.asList("b", "d"), this.ids("//cuboid[@team!=\"red\"]"));
+    assertEquals(Arrays.asList("a"), this.ids("regions/cuboid[@min][@team]"));
+    assertEquals(Arrays.asList("0,0,0"), this.values("regions/cuboid/@min"));
+    assertEquals(Arrays.asList("red", "blue"), this.values("spawns/spawn/@*"));
+  }
+
+  @Test
+  void testPosition() {
+    assertEquals(Arrays.asList("c"), this.ids("regions/union/cuboid[2]"));
+    assertEquals(Arrays.asList("c", "d"), this.ids("//union/cuboid[@team!='blue'][1]"));
+    assertEquals(Arrays.asList(), this.ids("regions/cuboid[2]"));
+    assertEquals(Arrays.asList("c"), this.ids("//cuboid[3]"));
+    assertEquals(Arrays.asList("d"), this.ids("//cuboid[@team!='red'][2]"));
+  }
+
+  @Test
+  void testInvalid() {
+    assertThrows(IllegalArgumentException.class, () -> PathNodeFinder.compile(""));
+    assertThrows(IllegalArgumentException.class, () -> PathNodeFinder.compile("a/"));
+    assertThrows(IllegalArgumentException.class, () -> PathNodeFinder.compile("a[0]"));
+    assertThrows(IllegalArgumentException.class, () -> PathNodeFinder.compile("a[@b='c]"));
+    assertThrows(IllegalArgumentException.class, () -> PathNodeFinder.compile("@a/b"));
+    assertThrows(IllegalArgumentException.class, () -> PathNodeFinder.compile("a//@b"));
+  }
+
+  private List<String> names(final String path) {
+    return PathNodeFinder.compile(path).nodes(this.root).map(Node::name).collect(Collectors.toList());
+  }
+
+  private List<String> ids(final String path) {
+    return PathNodeFinder.compile(path).nodes(this.root).map(node -> node.attribute("id").orThrow().value()).collect(Collectors.toList());
+  }
+
+  private List<String> values(final String path) {
+    return PathNodeFinder.compile(path).nodes(this.root).map(Node::value).collect(Collectors.toList());
+  }
+}
@@ -23,9 +23,12 @@
  */
 package net.kyori.xml.node.parser;
 
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class BooleanParserTest extends ParserTest<Boolean> {
   BooleanParserTest() {
@@ -45,5 +48,58 @@ class BooleanParserTest extends ParserTest<Boolean> {
   @Test
   void testInvalidParse() {
     this.assertParseThrows("yes", exception -> {});
+    this.assertParseThrows("True", exception -> {});
+    this.assertParseThrows("", exception -> {});
+  }
+
+  @Test
+  void testNoVocabularies() {
+    assertThrows(IllegalArgumentException.class, () -> BooleanParser.of(true));
+  }
+
+  @Nested
+  class VocabularyTest extends ParserTest<Boolean> {
+    VocabularyTest() {
+      super(BooleanParser.of(false, BooleanParser.Vocabulary.YES_NO, BooleanParser.Vocabulary.ONE_ZERO));
+    }
+
+    @Test
+    void testParse() {
+      this.assertParse(true, "yes");
+      this.assertParse(true, "1");
+      this.assertParse(false, "no");
+      this.assertParse(false, "0");
+    }
+
+    @Test
+    void testInvalidParse() {
+      this.assertParseThrows("true", exception -> {});
+      this.assertParseThrows("Yes", exception -> {});
+      this.assertParseThrows("yess", exception -> {});
+    }
+  }
+
+  @Nested
+  class LenientTest extends ParserTest<Boolean> {
+    LenientTest() {
+      super(BooleanParser.lenient());
+    }
+
+    @Test
+    void testParse() {
+      for(final String string : new String[]{"true", "TRUE", "Yes", "on", "ON", "1"}) {
+        this.assertParse(true, string);
+      }
+      for(final String string : new String[]{"false", "False", "NO", "off", "0"}) {
+        this.assertParse(false, string);
+      }
+    }
+
+    @Test
+    void testInvalidParse() {
+      for(final String string : new String[]{"", "y", "n", "onn", "2", "truee"}) {
+        this.assertParseThrows(string, exception -> {});
+      }
+    }
   }
 }
@@ -0,0 +1,84 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.kyori.xml.Testing;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.parser.number.DoubleDelimitedParser;
+import net.kyori.xml.node.parser.number.DoubleParser;
+import net.kyori.xml.node.parser.number.IntDelimitedParser;
+import net.kyori.xml.node.parser.number.IntParser;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DelimitedParserTest {
+  @Test
+  void testCount() {
+    assertEquals(0, Delimiter.comma().count("", 0, 0));
+    assertEquals(0, Delimiter.comma().count("  ", 0, 2));
+    assertEquals(1, Delimiter.comma().count("a", 0, 1));
+    assertEquals(3, Delimiter.comma().count("a,,b", 0, 4));
+    assertEquals(2, Delimiter.comma().count("a,", 0, 2));
+    assertEquals(3, Delimiter.whitespace().count("  a \t b\n c  ", 0, 12));
+  }
+
+  @Test
+  void testStrings() throws XMLException {
+    final DelimitedParser<String> parser = new DelimitedParser<>(Delimiter.whitespace(), StringParser.get());
+    assertThat(parser.throwingParse(Testing.element("value", "a  b\tc"))).containsExactly("a", "b", "c").inOrder();
+    assertThat(parser.throwingParse(Testing.element("value", " "))).isEmpty();
+  }
+
+  @Test
+  void testBoxed() throws XMLException {
+    final DelimitedParser<Integer> parser = new DelimitedParser<>(Delimiter.comma(), RangeParser.of(IntParser.get()));
+    assertThat(parser.throwingParse(Testing.element("value", "1, 2 ,3"))).containsExactly(1, 2, 3).inOrder();
+    assertThrows(XMLException.class, () -> parser.throwingParse(Testing.element("value", "1,,3")));
+  }
+
+  @Test
+  void testPrimitive() throws XMLException {
+    assertArrayEquals(new int[]{1, -2, Integer.MAX_VALUE}, new IntDelimitedParser(Delimiter.comma(), IntParser.get()).throwingParse(Testing.element("value", "1,-2,+oo")));
+    assertArrayEquals(new double[]{0.5, 2.5e3}, new DoubleDelimitedParser(Delimiter.of(";"), DoubleParser.get()).throwingParse(Testing.element("value", "0.5; 2.5e3")));
+  }
+
+  @Test
+  void testNested() throws XMLException {
+    final DelimitedParser<int[]> parser = new DelimitedParser<>(Delimiter.of(";"), new IntDelimitedParser(Delimiter.comma(), IntParser.get()));
+    final List<int[]> points = parser.throwingParse(Testing.element("value", "1,2,3;4,5,6"));
+    assertEquals(2, points.size());
+    assertArrayEquals(new int[]{1, 2, 3}, points.get(0));
+    assertArrayEquals(new int[]{4, 5, 6}, points.get(1));
+
+    final DelimitedParser<List<String>> strings = new DelimitedParser<>(Delimiter.of("|"), new DelimitedParser<>(Delimiter.whitespace(), StringParser.get()));
+    assertEquals(Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("c")), strings.throwingParse(Testing.element("value", "a b | c")));
+  }
+}
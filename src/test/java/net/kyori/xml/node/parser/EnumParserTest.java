@@ -23,11 +23,14 @@
  */
 package net.kyori.xml.node.parser;
 
+import java.util.ServiceLoader;
 import net.kyori.xml.XMLException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 class EnumParserTest {
@@ -47,12 +50,69 @@ class EnumParserTest {
     ANOTHER.assertParse(Another.FOO_BAR, "foo_bar");
   }
 
+  @Test
+  void testParseIgnoringCase() {
+    THING.assertParse(Thing.FOO_BAR, "Foo_Bar");
+    THING.assertParse(Thing.FOO_BAR, "fOO bAR");
+    THING.assertParse(Thing.BAZ, "baz");
+    assertThrows(XMLException.class, () -> THING.assertParse(Thing.FOO_BAR, "foo-bar"));
+    assertThrows(XMLException.class, () -> THING.assertParse(Thing.FOO_BAR, "foo_ba"));
+  }
+
+  @Test
+  void testParseCaseCollision() {
+    final ParserTest<Cased> cased = new ParserTest<>(new EnumParser<>(Cased.class));
+    cased.assertParse(Cased.ABC, "ABC");
+    cased.assertParse(Cased.abc, "abc");
+    cased.assertParse(Cased.ABC, "Abc");
+  }
+
+  @Test
+  void testOf() {
+    assertSame(EnumParser.of(Thing.class), EnumParser.of(Thing.class));
+    new ParserTest<>(EnumParser.of(Thing.class)).assertParse(Thing.FOO_BAR, "foo bar");
+    assertThrows(XMLException.class, () -> new ParserTest<>(EnumParser.of(Another.class)).assertParse(Another.FOO_BAR, "FOO_BAR"));
+  }
+
+  @Test
+  void testPrecomputed() {
+    assertSame(Generated.class, EnumParserTest_Generated_NameTable.INSTANCE.type());
+    final ParserTest<Generated> generated = new ParserTest<>(new EnumParser<>(EnumParserTest_Generated_NameTable.INSTANCE));
+    generated.assertParse(Generated.FOO_BAR, "Foo Bar");
+    generated.assertParse(Generated.ALIASED, "a\"b");
+    generated.assertParse(Generated.ALIASED, "c");
+    assertThrows(XMLException.class, () -> generated.assertParse(Generated.ALIASED, "aliased"));
+
+    boolean registered = false;
+    for(final EnumParser.NameTable<?> table : ServiceLoader.load(EnumParser.NameTable.class)) {
+      registered |= table.type() == Generated.class;
+    }
+    assertTrue(registered);
+
+    final ParserTest<Generated> found = new ParserTest<>(EnumParser.of(Generated.class));
+    found.assertParse(Generated.FOO_BAR, "foo_bar");
+    found.assertParse(Generated.ALIASED, "c");
+  }
+
   public enum Thing {
-    FOO_BAR;
+    FOO_BAR,
+    BAZ;
   }
 
   public enum Another {
     @EnumParser.Names("foo_bar")
     FOO_BAR;
   }
+
+  @EnumParser.Precomputed
+  public enum Generated {
+    FOO_BAR,
+    @EnumParser.Names({"a\"b", "c"})
+    ALIASED;
+  }
+
+  public enum Cased {
+    ABC,
+    abc;
+  }
 }
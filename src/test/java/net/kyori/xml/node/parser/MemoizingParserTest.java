@@ -0,0 +1,103 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.xml.Testing;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.parser.number.IntParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MemoizingParserTest {
+  private final AtomicInteger parsed = new AtomicInteger();
+  private final PrimitiveParser<Integer> counting = (node, string) -> {
+    this.parsed.incrementAndGet();
+    return IntParser.get().throwingParse(node, string);
+  };
+
+  @Test
+  void testMemoized() throws XMLException {
+    final PrimitiveParser<Integer> parser = this.counting.memoized(16);
+    final Integer first = parser.throwingParse(Testing.element("a", "1000"));
+    assertSame(first, parser.throwingParse(Testing.element("a", "1000")));
+    assertEquals(1, this.parsed.get());
+    assertEquals(2000, (int) parser.throwingParse(Testing.element("a", "2000")));
+    assertEquals(2, this.parsed.get());
+  }
+
+  @Test
+  void testFailure() {
+    final PrimitiveParser<Integer> parser = this.counting.memoized(16);
+    final Node a = Testing.element("a", "x");
+    final Node b = Testing.element("a", "x");
+    final ParseException first = assertThrows(ParseException.class, () -> parser.throwingParse(a));
+    final ParseException second = assertThrows(ParseException.class, () -> parser.throwingParse(b));
+    assertEquals(1, this.parsed.get());
+    assertSame(b, second.node());
+    assertEquals(first.getMessage(), second.getMessage());
+    assertEquals(0, second.getStackTrace().length);
+  }
+
+  @Test
+  void testConcurrentBound() throws InterruptedException {
+    final MemoizingParser<Integer> parser = new MemoizingParser<>(this.counting, 8);
+    final AtomicInteger largest = new AtomicInteger();
+    final Thread[] threads = new Thread[4];
+    for(int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread(() -> {
+        for(int i = 0; i < 2000; i++) {
+          parser.parse(Testing.element("a", Integer.toString(i % 50)));
+          largest.accumulateAndGet(parser.size(), Math::max);
+        }
+      });
+      threads[t].start();
+    }
+    for(final Thread thread : threads) {
+      thread.join();
+    }
+    assertEquals(8, parser.size());
+    assertEquals(8, largest.get());
+  }
+
+  @Test
+  void testBounded() throws XMLException {
+    final MemoizingParser<Integer> parser = new MemoizingParser<>(this.counting, 4);
+    for(int i = 0; i < 100; i++) {
+      assertEquals(i, (int) parser.throwingParse(Testing.element("a", Integer.toString(i))));
+    }
+    assertEquals(4, parser.size());
+    // the oldest strings are forgotten first
+    final int parsed = this.parsed.get();
+    parser.throwingParse(Testing.element("a", "99"));
+    assertEquals(parsed, this.parsed.get());
+    parser.throwingParse(Testing.element("a", "95"));
+    assertEquals(parsed + 1, this.parsed.get());
+    assertThrows(IllegalArgumentException.class, () -> new MemoizingParser<>(this.counting, 0));
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import net.kyori.xml.Testing;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.parser.number.IntParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelListParserTest {
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+
+  @AfterEach
+  void shutdown() {
+    this.pool.shutdownNow();
+  }
+
+  @Test
+  void testOrder() throws XMLException {
+    final ParallelListParser<Integer> parser = new ParallelListParser<>(IntParser.get(), 16, this.pool);
+    for(final int size : new int[]{0, 1, 15, 16, 1000, 5000}) {
+      final List<Integer> expected = IntStream.range(0, size).boxed().collect(Collectors.toList());
+      assertEquals(expected, parser.throwingParse(Testing.list(values(size, Integer::toString))));
+    }
+  }
+
+  @Test
+  void testFirstException() {
+    final ParallelListParser<Integer> parser = new ParallelListParser<>(IntParser.get(), 16, this.pool);
+    final Node node = Testing.list(values(5000, i -> i == 1234 || i == 4000 ? "x" + i : Integer.toString(i)));
+    final XMLException e = assertThrows(XMLException.class, () -> parser.throwingParse(node));
+    assertEquals("x1234", e.node().value());
+    assertEquals(1, e.getSuppressed().length);
+    assertEquals("x4000", ((XMLException) e.getSuppressed()[0]).node().value());
+  }
+
+  @Test
+  void testErrors() {
+    final ParallelListParser<Integer> parser = new ParallelListParser<>(IntParser.get(), 16, this.pool);
+    final ParseErrors errors = new ParseErrors();
+    final List<Integer> values = parser.parse(Testing.list(values(3000, i -> i % 1000 == 7 ? "x" + i : Integer.toString(i))), errors).orThrow();
+    assertEquals(2997, values.size());
+    assertEquals(8, (int) values.get(7));
+    assertEquals(3, errors.size());
+    assertEquals("x7", errors.exceptions().get(0).node().value());
+    assertEquals("x1007", errors.exceptions().get(1).node().value());
+    assertEquals("x2007", errors.exceptions().get(2).node().value());
+  }
+
+  @Test
+  void testUncheckedException() {
+    final Parser<Integer> failing = node -> {
+      final int value = IntParser.get().throwingParse(node);
+      if(value % 1000 == 999) {
+        throw new IllegalStateException(Integer.toString(value));
+      }
+      return value;
+    };
+    final ParallelListParser<Integer> parser = new ParallelListParser<>(failing, 16, this.pool);
+    for(int i = 0; i < 10; i++) {
+      assertEquals("999", assertThrows(IllegalStateException.class, () -> parser.throwingParse(Testing.list(values(5000, Integer::toString)))).getMessage());
+      assertEquals("999", assertThrows(IllegalStateException.class, () -> parser.parse(Testing.list(values(5000, Integer::toString)), new ParseErrors())).getMessage());
+    }
+  }
+
+  @Test
+  void testInPool() throws Exception {
+    final ParallelListParser<Integer> parser = new ParallelListParser<>(IntParser.get(), 16, this.pool);
+    assertEquals(5000, (int) this.pool.submit(() -> parser.throwingParse(Testing.list(values(5000, Integer::toString))).size()).get());
+  }
+
+  @Test
+  void testSequential() throws XMLException {
+    final ParallelListParser<Integer> parser = new ParallelListParser<>(IntParser.get());
+    assertEquals(ParallelListParser.DEFAULT_THRESHOLD, parser.threshold());
+    assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), parser.throwingParse(Testing.list(values(10, Integer::toString))));
+    assertThrows(IllegalArgumentException.class, () -> new ParallelListParser<>(IntParser.get(), 0));
+  }
+
+  private static String[] values(final int size, final IntFunction<String> value) {
+    return IntStream.range(0, size).mapToObj(value).toArray(String[]::new);
+  }
+}
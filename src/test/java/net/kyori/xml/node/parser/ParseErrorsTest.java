@@ -0,0 +1,87 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.Arrays;
+import java.util.List;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.parser.number.IntParser;
+import org.jdom2.Element;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParseErrorsTest {
+  @Test
+  void testDefault() {
+    final ParseErrors errors = new ParseErrors();
+    final Node node = Node.of(new Element("value").setText("abc"));
+    assertThat(IntParser.get().parse(node, errors, 7)).isEqualTo(7);
+    assertThat(IntParser.get().parse(Node.of(new Element("value").setText("3")), errors, 7)).isEqualTo(3);
+    assertThat(errors.size()).isEqualTo(1);
+    assertThat(errors.exceptions().get(0).node()).isSameAs(node);
+  }
+
+  @Test
+  void testList() {
+    final Element root = new Element("values");
+    for(final String value : Arrays.asList("1", "a", "2", "b", "3")) {
+      root.addContent(new Element("value").setText(value));
+    }
+    final ParseErrors errors = new ParseErrors();
+    final List<Integer> values = new ListParser<>(IntParser.get()).parse(Node.of(root), errors).orThrow();
+    assertThat(values).containsExactly(1, 2, 3).inOrder();
+    assertThat(errors.size()).isEqualTo(2);
+    assertThat(errors.exceptions().get(0).node().value()).isEqualTo("a");
+    assertThat(errors.exceptions().get(1).node().value()).isEqualTo("b");
+  }
+
+  @Test
+  void testNestedList() {
+    final Element root = new Element("values");
+    root.addContent(new Element("group").addContent(new Element("value").setText("1")).addContent(new Element("value").setText("a")));
+    root.addContent(new Element("group").addContent(new Element("value").setText("b")).addContent(new Element("value").setText("2")));
+    final ParseErrors errors = new ParseErrors();
+    final List<List<Integer>> values = new ListParser<>(new ListParser<>(IntParser.get())).parse(Node.of(root), errors).orThrow();
+    assertThat(values).containsExactly(Arrays.asList(1), Arrays.asList(2)).inOrder();
+    assertThat(errors.size()).isEqualTo(2);
+  }
+
+  @Test
+  void testThrowIfAny() {
+    final ParseErrors errors = new ParseErrors();
+    IntParser.get().parse(Node.of(new Element("a").setText("x")), errors);
+    IntParser.get().parse(Node.of(new Element("b").setText("y")), errors);
+    final XMLException exception = assertThrows(XMLException.class, errors::throwIfAny);
+    assertThat(exception.node().name()).isEqualTo("a");
+    assertThat(exception.getSuppressed()).hasLength(1);
+    assertThat(assertThrows(XMLException.class, errors::throwIfAny)).isSameAs(exception);
+    assertThat(exception.getSuppressed()).hasLength(1);
+    IntParser.get().parse(Node.of(new Element("c").setText("z")), errors);
+    assertThrows(XMLException.class, errors::throwIfAny);
+    assertThat(exception.getSuppressed()).hasLength(2);
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.kyori.xml.Testing;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.parser.number.IntParser;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParseExceptionTest {
+  @Test
+  void testStackless() {
+    final Node node = Testing.element("foo");
+    final ParseException exception = ParseException.stackless(node, "bad");
+    assertThat(exception.node()).isSameAs(node);
+    assertThat(exception.getMessage()).isEqualTo("bad");
+    assertThat(exception.getStackTrace()).isEmpty();
+  }
+
+  @Test
+  void testLazyMessage() {
+    final AtomicInteger calls = new AtomicInteger();
+    final ParseException exception = ParseException.stackless(null, () -> "bad " + calls.incrementAndGet());
+    assertThat(calls.get()).isEqualTo(0);
+    assertThat(exception.getMessage()).isEqualTo("bad 1");
+    assertThat(exception.getMessage()).isEqualTo("bad 1");
+    assertThat(exception.toString()).endsWith("bad 1");
+  }
+
+  @Test
+  void testOf() {
+    final ParseException exception = ParseException.of(null, () -> "bad");
+    assertThat(exception.getMessage()).isEqualTo("bad");
+    assertThat(exception.getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  void testSerializable() throws IOException, ClassNotFoundException {
+    final ParseException exception = ParseException.of(null, () -> "bad");
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try(final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(exception);
+    }
+    try(final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertThat(((ParseException) in.readObject()).getMessage()).isEqualTo("bad");
+    }
+  }
+
+  @Test
+  void testParserMessage() {
+    final Node node = Testing.element("foo", "abc");
+    final ParseException exception = assertThrows(ParseException.class, () -> IntParser.get().throwingParse(node));
+    assertThat(exception.node()).isSameAs(node);
+    assertThat(exception.getMessage()).isEqualTo("Could not parse 'abc' as an int");
+  }
+}
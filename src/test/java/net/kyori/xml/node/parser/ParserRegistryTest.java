@@ -0,0 +1,129 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import net.kyori.xml.Testing;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.parser.number.IntListParser;
+import net.kyori.xml.node.parser.number.IntParser;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jdom2.Element;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParserRegistryTest {
+  private final ParserRegistry registry = ParserRegistry.builder().build();
+
+  @Test
+  void testSimple() {
+    assertSame(IntParser.get(), this.registry.parser(int.class));
+    assertSame(IntParser.get(), this.registry.parser(Integer.class));
+    assertSame(StringParser.get(), this.registry.parser(String.class));
+    assertSame(EnumParser.of(Thing.class), this.registry.parser(Thing.class));
+  }
+
+  @Test
+  void testComposite() throws XMLException {
+    final Parser<List<Integer>> parser = this.registry.parser(new TypeToken<List<Integer>>() {});
+    assertSame(parser, this.registry.parser(new TypeToken<List<Integer>>() {}));
+    assertEquals(Arrays.asList(1, 2), parser.throwingParse(Testing.list("1", "2")));
+
+    final Parser<List<List<Thing>>> nested = this.registry.parser(new TypeToken<List<List<Thing>>>() {});
+    final Node root = Testing.element("root", element -> element.addContent(new Element("a").addContent(new Element("b").setText("foo"))));
+    assertEquals(Arrays.asList(Arrays.asList(Thing.FOO)), nested.throwingParse(root));
+  }
+
+  @Test
+  void testArrays() throws XMLException {
+    assertThat(this.registry.parser(int[].class)).isInstanceOf(IntListParser.class);
+    assertArrayEquals(new int[]{1, 2}, this.registry.parser(int[].class).throwingParse(Testing.list("1", "2")));
+    assertArrayEquals(new Thing[]{Thing.BAR}, this.registry.parser(Thing[].class).throwingParse(Testing.list("bar")));
+    assertArrayEquals(new boolean[]{true, false}, this.registry.parser(boolean[].class).throwingParse(Testing.list("true", "false")));
+    final List<String>[] lists = this.registry.parser(new TypeToken<List<String>[]>() {}).throwingParse(Testing.element("root", element -> element.addContent(new Element("a").addContent(new Element("b").setText("x")))));
+    assertEquals(1, lists.length);
+    assertEquals(Arrays.asList("x"), lists[0]);
+  }
+
+  @Test
+  void testStream() throws XMLException {
+    final Parser<Stream<Integer>> parser = this.registry.parser(new TypeToken<Stream<Integer>>() {});
+    assertThat(parser).isInstanceOf(StreamParser.class);
+    assertEquals(Arrays.asList(1, 2), parser.throwingParse(Testing.list("1", "2")).collect(Collectors.toList()));
+  }
+
+  @Test
+  void testOptional() throws XMLException {
+    final Parser<Optional<Integer>> parser = this.registry.parser(new TypeToken<Optional<Integer>>() {});
+    assertEquals(Optional.of(3), parser.throwingParse(Testing.element("a", "3")));
+    assertEquals(Optional.empty(), parser.throwingParse(Testing.element("a")));
+  }
+
+  @Test
+  void testRegistered() throws XMLException {
+    final Parser<Integer> doubled = node -> 2 * Integer.parseInt(node.value());
+    final ParserRegistry registry = ParserRegistry.builder().register(Integer.class, doubled).build();
+    assertSame(doubled, registry.parser(Integer.class));
+    assertEquals(Arrays.asList(2, 4), registry.parser(new TypeToken<List<Integer>>() {}).throwingParse(Testing.list("1", "2")));
+  }
+
+  @Test
+  void testRegisteredPrimitive() throws XMLException {
+    final IntParser positive = new IntParser() {
+      @Override
+      public @NonNull Integer finite(final @NonNull Node node, final @NonNull String string) throws XMLException {
+        final int value = super.finite(node, string);
+        if(value < 0) {
+          throw ParseException.of(node, () -> "Expected a positive int, got " + value);
+        }
+        return value;
+      }
+    };
+    final ParserRegistry registry = ParserRegistry.builder().register(int.class, positive).build();
+    assertArrayEquals(new int[]{1, 2}, registry.parser(int[].class).throwingParse(Testing.list("1", "2")));
+    assertThrows(XMLException.class, () -> registry.parser(int[].class).throwingParse(Testing.list("1", "-2")));
+  }
+
+  @Test
+  void testUnresolved() {
+    assertThrows(IllegalArgumentException.class, () -> this.registry.parser(Object.class));
+    assertThrows(IllegalArgumentException.class, () -> this.registry.parser(new TypeToken<java.util.Set<String>>() {}));
+  }
+
+
+  public enum Thing {
+    FOO,
+    BAR;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import net.kyori.xml.Testing;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.parser.number.IntParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StreamParserTest {
+  @Test
+  void testLazy() throws XMLException {
+    final AtomicInteger parsed = new AtomicInteger();
+    final StreamParser<Integer> parser = new StreamParser<>(node -> {
+      parsed.incrementAndGet();
+      return IntParser.get().throwingParse(node);
+    });
+    final Stream<Integer> stream = parser.throwingParse(Testing.list("1", "2", "x"));
+    assertEquals(0, parsed.get());
+    assertEquals(Arrays.asList(1, 2), stream.limit(2).collect(Collectors.toList()));
+    assertEquals(2, parsed.get());
+  }
+
+  @Test
+  void testException() throws XMLException {
+    final Stream<Integer> stream = new StreamParser<>(IntParser.get()).throwingParse(Testing.list("1", "x"));
+    assertThrows(XMLException.class, () -> stream.collect(Collectors.toList()));
+  }
+
+  @Test
+  void testErrors() {
+    final ParseErrors errors = new ParseErrors();
+    final Stream<Integer> stream = new StreamParser<>(IntParser.get()).parse(Testing.list("1", "x", "3"), errors).orThrow();
+    assertEquals(0, errors.size());
+    assertEquals(Arrays.asList(1, 3), stream.collect(Collectors.toList()));
+    assertEquals(1, errors.size());
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser.binding;
+
+import java.util.Collections;
+import java.util.List;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.parser.ParseException;
+import net.kyori.xml.node.parser.Parser;
+import net.kyori.xml.node.parser.ParserRegistry;
+import org.jdom2.Element;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BindingParserTest {
+  private final ParserRegistry registry = ParserRegistry.builder().build();
+
+  @Test
+  void testFields() throws XMLException {
+    final Parser<Point> parser = this.registry.parser(Point.class);
+    assertSame(parser, this.registry.parser(Point.class));
+    final Point point = parser.throwingParse(Node.of(new Element("point").setAttribute("x", "1").setAttribute("y", "2").addContent(new Element("label").setText("origin"))));
+    assertEquals(1, point.x);
+    assertEquals(2, point.y);
+    assertEquals("origin", point.label);
+  }
+
+  @Test
+  void testOptional() throws XMLException {
+    final Point point = this.registry.parser(Point.class).throwingParse(Node.of(new Element("point").setAttribute("x", "1").setAttribute("y", "2")));
+    assertEquals("none", point.label);
+  }
+
+  @Test
+  void testRequired() {
+    final ParseException e = assertThrows(ParseException.class, () -> this.registry.parser(Point.class).throwingParse(Node.of(new Element("point").setAttribute("x", "1"))));
+    assertEquals("Missing attribute 'y' for " + Point.class.getName(), e.getMessage());
+  }
+
+  @Test
+  void testInvalid() {
+    assertThrows(ParseException.class, () -> this.registry.parser(Point.class).throwingParse(Node.of(new Element("point").setAttribute("x", "1").setAttribute("y", "two"))));
+  }
+
+  @Test
+  void testSingleChild() {
+    final Element element = new Element("point").setAttribute("x", "1").setAttribute("y", "2")
+      .addContent(new Element("label").setText("a"))
+      .addContent(new Element("label").setText("b"));
+    assertThrows(ParseException.class, () -> this.registry.parser(Point.class).throwingParse(Node.of(element)));
+  }
+
+  @Test
+  void testConstructor() throws XMLException {
+    final Element element = new Element("shape").setAttribute("name", "square").setAttribute("sides", "4")
+      .addContent(new Element("point").setAttribute("x", "0").setAttribute("y", "0"))
+      .addContent(new Element("point").setAttribute("x", "1").setAttribute("y", "1"))
+      .addContent(new Element("tag").setText("a"))
+      .addContent(new Element("tag").setText("b"));
+    final Shape shape = this.registry.parser(Shape.class).throwingParse(Node.of(element));
+    assertEquals("square", shape.name);
+    assertEquals(4, shape.sides);
+    assertEquals(2, shape.points.size());
+    assertEquals(1, shape.points.get(1).x);
+    assertArrayEquals(new String[]{"a", "b"}, shape.tags);
+    assertNull(shape.parent);
+
+    final Shape empty = this.registry.parser(Shape.class).throwingParse(Node.of(new Element("shape").setAttribute("name", "none")));
+    assertEquals(0, empty.sides);
+    assertEquals(Collections.emptyList(), empty.points);
+    assertEquals(0, empty.tags.length);
+  }
+
+  @Test
+  void testRecursive() throws XMLException {
+    final Element element = new Element("shape").setAttribute("name", "child")
+      .addContent(new Element("parent").setAttribute("name", "parent"));
+    final Shape shape = this.registry.parser(Shape.class).throwingParse(Node.of(element));
+    assertEquals("parent", shape.parent.name);
+  }
+
+  @Test
+  void testUnbindable() {
+    assertThrows(IllegalArgumentException.class, () -> BindingParser.compile(Object.class, this.registry));
+    assertThrows(IllegalArgumentException.class, () -> this.registry.parser(Final.class));
+    assertThrows(IllegalArgumentException.class, () -> this.registry.parser(Duplicate.class));
+  }
+
+  @Bindable
+  static class Point {
+    @Attribute int x;
+    @Attribute int y;
+    @Child(required = false) String label = "none";
+  }
+
+  @Bindable
+  static class Shape {
+    final String name;
+    final int sides;
+    final List<Point> points;
+    final String[] tags;
+    final Shape parent;
+
+    Shape(
+      @Attribute("name") final String name,
+      @Attribute(value = "sides", required = false) final int sides,
+      @Children("point") final List<Point> points,
+      @Children("tag") final String[] tags,
+      @Child(value = "parent", required = false) final Shape parent
+    ) {
+      this.name = name;
+      this.sides = sides;
+      this.points = points;
+      this.tags = tags;
+      this.parent = parent;
+    }
+  }
+
+  @Bindable
+  static class Final {
+    @Attribute final int x = 0;
+  }
+
+  @Bindable
+  static class Duplicate {
+    @Attribute("x") int a;
+    @Attribute("x") int b;
+  }
+}
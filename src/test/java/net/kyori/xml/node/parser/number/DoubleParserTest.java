@@ -53,4 +53,10 @@ class DoubleParserTest extends NumberParserTest<Double> {
   void testPositiveInfinityParse() {
     this.assertPositiveInfinityParse(Double.POSITIVE_INFINITY);
   }
+
+  @Test
+  void testInvalidParse() {
+    this.assertParseThrows("1x", exception -> {});
+    this.assertParseThrows("", exception -> {});
+  }
 }
@@ -0,0 +1,136 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser.number;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class FloatingPointsTest {
+  private static final List<String> CORPUS = Arrays.asList(
+    "0", "-0", "+0", "0.0", "-0.0", "0e999", "1", "-1", "1.", ".5", "0.1", "0.2", "0.3", "1e23", "8.41e21", "9.5e-5",
+    "123456789012345678", "1234567890123456789", "9999999999999999999", "18446744073709551615", "9007199254740992",
+    "9007199254740993", "9007199254740994", "9007199254740995", "1e22", "1e-22", "4.35679899e-10",
+    "2.2250738585072011e-308", "2.2250738585072012e-308", "2.2250738585072014e-308", "4.9e-324", "2.4703282292062327e-324",
+    "2.4703282292062328e-324", "1e-324", "1e-400", "1.7976931348623157e308", "1.7976931348623158e308",
+    "1.7976931348623159e308", "1e308", "1e309", "-1e309", "3.4028235e38", "3.4028236e38", "3.4028237e38", "1.4e-45",
+    "7e-46", "7.1e-46", "1.17549435e-38", "1.1754942e-38", "16777217", "16777216.5", "33554435", "1e1000000", "1e-1000000",
+    "0.000000000000000000000000000000001", "100000000000000000000000000000000000000"
+  );
+
+  @Test
+  void testCorpus() {
+    for(final String string : CORPUS) {
+      assertDouble(string);
+      assertFloat(string);
+    }
+  }
+
+  @Test
+  void testShortest() {
+    final Random random = new Random(42);
+    for(int i = 0; i < 200_000; i++) {
+      final double value = Double.longBitsToDouble(random.nextLong());
+      if(!Double.isNaN(value) && !Double.isInfinite(value)) {
+        final String string = Double.toString(value);
+        assertDouble(string);
+        assertFalse(Double.isNaN(FloatingPoints.parseDouble(string, 0, string.length())), string);
+      }
+      final float f = Float.intBitsToFloat(random.nextInt());
+      if(!Float.isNaN(f) && !Float.isInfinite(f)) {
+        final String string = Float.toString(f);
+        assertFloat(string);
+        assertFalse(Float.isNaN(FloatingPoints.parseFloat(string, 0, string.length())), string);
+      }
+    }
+  }
+
+  @Test
+  void testRandomDigits() {
+    final Random random = new Random(1337);
+    final StringBuilder builder = new StringBuilder();
+    for(int i = 0; i < 200_000; i++) {
+      builder.setLength(0);
+      final int digits = 1 + random.nextInt(19);
+      final int point = random.nextInt(digits + 1);
+      for(int j = 0; j < digits; j++) {
+        if(j == point) {
+          builder.append('.');
+        }
+        builder.append((char) ('0' + random.nextInt(10)));
+      }
+      builder.append('e').append(random.nextInt(700) - 350);
+      final String string = builder.toString();
+      assertDouble(string);
+      assertFloat(string);
+    }
+  }
+
+  @Test
+  void testHalfway() {
+    // exactly halfway between two adjacent values, which must round to even
+    for(long mantissa = (1L << 53) - 64; mantissa < (1L << 53); mantissa++) {
+      final String string = Long.toString(2 * mantissa + 1);
+      assertDouble(string);
+      assertDouble(string + "0e-1");
+    }
+    for(long mantissa = (1L << 24) - 64; mantissa < (1L << 24); mantissa++) {
+      assertFloat(Long.toString(2 * mantissa + 1));
+      assertFloat(Long.toString((2 * mantissa + 1) << 10));
+    }
+  }
+
+  @Test
+  void testRange() {
+    final String string = "[0.1,-2.5e3]";
+    assertEquals(0.1, FloatingPoints.parseDouble(string, 1, 4));
+    assertEquals(-2.5e3f, FloatingPoints.parseFloat(string, 5, 11));
+  }
+
+  @Test
+  void testDecline() {
+    for(final String string : Arrays.asList("", "-", ".", "e5", "1e", "1e+", "1.5d", " 1", "NaN", "Infinity", "0x1p3", "12345678901234567890")) {
+      assertEquals(Double.NaN, FloatingPoints.parseDouble(string, 0, string.length()), string);
+      assertEquals(Float.NaN, FloatingPoints.parseFloat(string, 0, string.length()), string);
+    }
+  }
+
+  private static void assertDouble(final String string) {
+    final double value = FloatingPoints.parseDouble(string, 0, string.length());
+    if(!Double.isNaN(value)) {
+      assertEquals(Double.doubleToRawLongBits(Double.parseDouble(string)), Double.doubleToRawLongBits(value), string);
+    }
+  }
+
+  private static void assertFloat(final String string) {
+    final float value = FloatingPoints.parseFloat(string, 0, string.length());
+    if(!Float.isNaN(value)) {
+      assertEquals(Float.floatToRawIntBits(Float.parseFloat(string)), Float.floatToRawIntBits(value), string);
+    }
+  }
+}
@@ -53,4 +53,15 @@ class IntParserTest extends NumberParserTest<Integer> {
   void testPositiveInfinityParse() {
     this.assertPositiveInfinityParse(Integer.MAX_VALUE);
   }
+
+  @Test
+  void testInvalidParse() {
+    this.assertParseThrows("1x", exception -> {});
+    this.assertParseThrows("", exception -> {});
+    // near misses of the infinity symbols
+    this.assertParseThrows("-", exception -> {});
+    this.assertParseThrows("+o", exception -> {});
+    this.assertParseThrows("-ooo", exception -> {});
+    this.assertParseThrows("∞", exception -> {});
+  }
 }
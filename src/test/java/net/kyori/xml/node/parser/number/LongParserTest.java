@@ -43,6 +43,17 @@ class LongParserTest extends NumberParserTest<Long> {
     this.assertParse(-3140055184399963602L, "-3140055184399963602");
   }
 
+  @Test
+  void testMinValueParse() {
+    this.assertParse(Long.MIN_VALUE, "-9223372036854775808");
+    this.assertParse(Long.MIN_VALUE, "-09223372036854775808");
+    this.assertParse(Long.MIN_VALUE, "-0009223372036854775808");
+    this.assertParse(Long.MIN_VALUE, "-\u0669223372036854775808");
+    this.assertParseThrows("9223372036854775808", exception -> {});
+    this.assertParseThrows("-9223372036854775809", exception -> {});
+    this.assertParseThrows("-", exception -> {});
+  }
+
   @Test
   void testPositiveParse() {
     this.assertParse(3140055184399963602L, "3140055184399963602");
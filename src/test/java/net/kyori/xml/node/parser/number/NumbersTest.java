@@ -0,0 +1,93 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser.number;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NumbersTest {
+  private static final List<String> INTEGERS = Arrays.asList(
+    "0", "-0", "+0", "7", "-7", "+7", "007", "127", "128", "-128", "-129", "32767", "32768", "-32768", "-32769",
+    "2147483647", "2147483648", "-2147483648", "-2147483649", "99999999999",
+    "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809", "99999999999999999999",
+    "-09223372036854775808", "-0009223372036854775808", "-\u0669223372036854775808", "-09223372036854775809",
+    "", "-", "+", "--1", "+-1", "1-", " 1", "1 ", "1.0", "1e3", "0x10", "abc", "١٢", "１"
+  );
+  private static final List<String> FLOATING_POINTS = Arrays.asList(
+    "0", "-0", "1", "1.", ".5", "-.5", "+1.5", "1e10", "1E-10", "1e+10", "1.5e", "1.5e+", "e5", ".", "-", "",
+    "1d", "1.5F", "1.5f ", " 1.5", "1.5dd", "1.5x", "NaN", "-NaN", "Infinity", "-Infinity", "+Infinity", "infinity", "NaNd",
+    "0x1p3", "0X1.8P-1", "0x.8p1", "0x1", "0x1.8", "0xp1", "0x1p", "0x1p1d", "1_000", "١"
+  );
+
+  @Test
+  void testParseInt() {
+    for(final String string : INTEGERS) {
+      assertEquals(valid(() -> Integer.parseInt(string)), Numbers.parseInt(string, 0, string.length(), Integer.MIN_VALUE, Integer.MAX_VALUE) != Numbers.INVALID, string);
+      assertEquals(valid(() -> Short.parseShort(string)), Numbers.parseInt(string, 0, string.length(), Short.MIN_VALUE, Short.MAX_VALUE) != Numbers.INVALID, string);
+      assertEquals(valid(() -> Byte.parseByte(string)), Numbers.parseInt(string, 0, string.length(), Byte.MIN_VALUE, Byte.MAX_VALUE) != Numbers.INVALID, string);
+      if(valid(() -> Integer.parseInt(string))) {
+        assertEquals(Integer.parseInt(string), Numbers.parseInt(string, 0, string.length(), Integer.MIN_VALUE, Integer.MAX_VALUE), string);
+      }
+    }
+  }
+
+  @Test
+  void testParseLong() {
+    for(final String string : INTEGERS) {
+      final long value = Numbers.parseLong(string, 0, string.length());
+      final boolean valid = valid(() -> Long.parseLong(string));
+      assertEquals(valid, value != Numbers.INVALID || Numbers.isLongMinValue(string, 0, string.length()), string);
+      if(valid) {
+        assertEquals(Long.parseLong(string), value, string);
+      }
+    }
+  }
+
+  @Test
+  void testRange() {
+    final String string = "[-123,456]";
+    assertEquals(-123, Numbers.parseInt(string, 1, 5, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    assertEquals(456, Numbers.parseLong(string, 6, 9));
+    assertEquals(Numbers.INVALID, Numbers.parseInt(string, 0, 5, Integer.MIN_VALUE, Integer.MAX_VALUE));
+  }
+
+  @Test
+  void testIsFloatingPoint() {
+    for(final String string : FLOATING_POINTS) {
+      assertEquals(valid(() -> Double.parseDouble(string)), Numbers.isFloatingPoint(string, 0, string.length()), string);
+    }
+  }
+
+  private static boolean valid(final Runnable runnable) {
+    try {
+      runnable.run();
+      return true;
+    } catch(final NumberFormatException e) {
+      return false;
+    }
+  }
+}
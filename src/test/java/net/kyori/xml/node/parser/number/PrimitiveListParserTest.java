@@ -0,0 +1,107 @@
+/*
+ * This file is part of xml, licensed under the MIT License.
+ *
+ * Copyright (c) 2018-2020 KyoriPowered
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package net.kyori.xml.node.parser.number;
+
+import net.kyori.xml.Testing;
+import net.kyori.xml.XMLException;
+import net.kyori.xml.node.Node;
+import net.kyori.xml.node.parser.Delimiter;
+import net.kyori.xml.node.parser.ParseErrors;
+import net.kyori.xml.node.parser.ParseException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrimitiveListParserTest {
+  @Test
+  void testNodeParsers() throws XMLException {
+    final Node node = Testing.element("value", "-oo");
+    assertEquals(Integer.MIN_VALUE, IntParser.get().parseInt(node));
+    assertEquals(Short.MIN_VALUE, ShortParser.get().parseInt(node));
+    assertEquals(Long.MIN_VALUE, LongParser.get().parseLong(node));
+    assertEquals(Double.NEGATIVE_INFINITY, DoubleParser.get().parseDouble(node));
+    assertEquals(Double.POSITIVE_INFINITY, FloatParser.get().parseDouble(node, "x+∞", 1, 3));
+    assertEquals(12, ByteParser.get().parseInt(node, "[12]", 1, 3));
+    assertEquals(0.5, FloatParser.get().parseDouble(node, "0.5", 0, 3));
+  }
+
+  @Test
+  void testIntList() throws XMLException {
+    final Node node = Testing.list("1", "-2", "+oo");
+    assertArrayEquals(new int[]{1, -2, Integer.MAX_VALUE}, new IntListParser(IntParser.get()).throwingParse(node));
+    assertArrayEquals(new int[]{}, new IntListParser(IntParser.get()).throwingParse(Testing.list()));
+    assertThrows(XMLException.class, () -> new IntListParser(ByteParser.get()).throwingParse(Testing.list("1", "300")));
+  }
+
+  @Test
+  void testLongList() throws XMLException {
+    assertArrayEquals(new long[]{1, 9223372036854775807L}, new LongListParser(LongParser.get()).throwingParse(Testing.list("1", "9223372036854775807")));
+  }
+
+  @Test
+  void testDoubleList() throws XMLException {
+    assertArrayEquals(new double[]{1.5, -0.25, Double.NEGATIVE_INFINITY}, new DoubleListParser(DoubleParser.get()).throwingParse(Testing.list("1.5", "-0.25", "-∞")));
+  }
+
+  @Test
+  void testCollectErrors() {
+    final ParseErrors errors = new ParseErrors();
+    final int[] values = new IntListParser(IntParser.get()).parse(Testing.list("1", "x", "3"), errors).orThrow();
+    assertArrayEquals(new int[]{1, 3}, values);
+    assertThat(errors.size()).isEqualTo(1);
+  }
+
+  @Test
+  void testSubclass() throws XMLException {
+    final Node node = Testing.element("value", "-1");
+    assertThrows(XMLException.class, () -> new PositiveIntParser().parseInt(node));
+    assertThrows(XMLException.class, () -> new PositiveIntParser().parseInt(node, "1,-1", 2, 4));
+    assertThrows(XMLException.class, () -> new IntListParser(new PositiveIntParser()).throwingParse(Testing.list("1", "-1")));
+    assertThrows(XMLException.class, () -> new IntDelimitedParser(Delimiter.comma(), new PositiveIntParser()).throwingParse(Testing.element("value", "1,-1")));
+    assertArrayEquals(new int[]{1, 2}, new IntDelimitedParser(Delimiter.comma(), new PositiveIntParser()).throwingParse(Testing.element("value", "1,2")));
+    assertArrayEquals(new double[]{2, 4}, new DoubleListParser(new DoubledDoubleParser()).throwingParse(Testing.list("1", "2")));
+  }
+
+  static class PositiveIntParser extends IntParser {
+    @Override
+    public @NonNull Integer finite(final @NonNull Node node, final @NonNull String string) throws XMLException {
+      final int value = super.finite(node, string);
+      if(value < 0) {
+        throw ParseException.of(node, () -> "Expected a positive int, got " + value);
+      }
+      return value;
+    }
+  }
+
+  static class DoubledDoubleParser extends DoubleParser {
+    @Override
+    public @NonNull Double throwingParse(final @NonNull Node node, final @NonNull String string) throws XMLException {
+      return 2 * super.throwingParse(node, string);
+    }
+  }
+}